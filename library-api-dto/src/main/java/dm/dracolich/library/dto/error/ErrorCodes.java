@@ -5,7 +5,11 @@ import lombok.Getter;
 
 @Getter
 public enum ErrorCodes implements ErrorCode {
-    DMD012("DMD012", "This error is just for the library");
+    DMD012("DMD012", "This error is just for the library"),
+    DMD013("DMD013", "Invalid cursor: %s"),
+    DMD014("DMD014", "Unknown fields: %s"),
+    DMD015("DMD015", "No %s named '%s'"),
+    DMD016("DMD016", "Invalid page size: %s");
 
     private final String code;
     private final String message;
@@ -3,11 +3,13 @@ package dm.dracolich.library.web;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"dm.dracolich.library.web", "dm.dracolich.forge"})
 @EnableReactiveMongoRepositories(basePackages = {"dm.dracolich.library.web.repository"})
+@EnableReactiveMongoAuditing
 public class LibraryApiWebApplication {
     public static void main(String[] args) {
         SpringApplication.run(LibraryApiWebApplication.class, args);
@@ -0,0 +1,47 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterSaveCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stamps every saved library document with the next catalog version, covering creation, image uploads and seeding.
+ * {@code createdVersion} is only set on the first save so syncs can tell inserts from updates.
+ * The version stays reserved until the save has committed; a failed save leaves it to expire.
+ * Batch writers put a version they reserved under {@link #BATCH_VERSION} in the Reactor context to share it,
+ * and release it themselves once the whole batch is written.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionCallback implements ReactiveBeforeConvertCallback<CatalogEntity>,
+        ReactiveAfterSaveCallback<CatalogEntity> {
+    public static final String BATCH_VERSION = CatalogVersionCallback.class.getName() + ".batchVersion";
+
+    private final CatalogVersionService versions;
+
+    @Override
+    public Publisher<CatalogEntity> onBeforeConvert(CatalogEntity entity, String collection) {
+        return Mono.deferContextual(context -> context.<Long>getOrEmpty(BATCH_VERSION)
+                        .map(Mono::just)
+                        .orElseGet(versions::next))
+                .map(version -> {
+                    if (entity.getCreatedVersion() == null)
+                        entity.setCreatedVersion(version);
+                    entity.setUpdatedVersion(version);
+                    return entity;
+                });
+    }
+
+    @Override
+    public Publisher<CatalogEntity> onAfterSave(CatalogEntity entity, Document document, String collection) {
+        return Mono.deferContextual(context -> context.hasKey(BATCH_VERSION) || entity.getUpdatedVersion() == null
+                ? Mono.just(entity)
+                : versions.release(entity.getUpdatedVersion()).thenReturn(entity));
+    }
+}
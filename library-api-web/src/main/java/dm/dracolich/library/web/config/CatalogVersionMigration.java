@@ -0,0 +1,56 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.entity.CatalogEntities;
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns a catalog version to documents written before versions existed, so a sync from 0 returns them.
+ * All of them share one version, taken only when a collection actually has unversioned documents.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogVersionMigration {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+    private final StartupOrchestrator startup;
+
+    // Readiness waits for the backfill, syncs miss documents without a version
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVersions() {
+        startup.track("version-backfill", Flux.fromIterable(CatalogEntities.ALL)
+                        .concatMap(this::backfill)
+                        .reduce(0L, Long::sum))
+                .subscribe(
+                        total -> log.info("Catalog version backfill completed, {} documents updated", total),
+                        error -> log.error("Catalog version backfill failed", error)
+                );
+    }
+
+    private Mono<Long> backfill(Class<? extends CatalogEntity> entityClass) {
+        Query missing = Query.query(Criteria.where("updatedVersion").exists(false));
+
+        return mongoTemplate.exists(missing, entityClass)
+                .filter(Boolean::booleanValue)
+                .flatMap(exists -> versions.withNext(version -> mongoTemplate.updateMulti(missing,
+                        new Update().set("createdVersion", version).set("updatedVersion", version), entityClass)))
+                .map(result -> result.getModifiedCount())
+                .defaultIfEmpty(0L)
+                .doOnNext(updated -> {
+                    if (updated > 0)
+                        log.info("Backfilled catalog version on {} {} documents", updated, mongoTemplate.getCollectionName(entityClass));
+                });
+    }
+}
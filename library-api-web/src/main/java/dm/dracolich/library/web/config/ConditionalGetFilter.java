@@ -0,0 +1,97 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.service.catalog.CatalogSnapshot;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.CatalogVersion;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Conditional GETs for the library read routes. Every response is fully determined by the request and the catalog
+ * version it was served at, so the ETag is derived from those two alone: matching {@code If-None-Match} or
+ * {@code If-Modified-Since} requests are answered with 304 before any query, mapping or serialization runs.
+ * <p>
+ * Canonical reads come from this instance's snapshot and the rest from Mongo, so the version is only known when both
+ * agree: the committed version is read fresh for every request, and a snapshot behind it, still catching up, means
+ * snapshot and database reads would answer at different versions. Those responses carry no validators.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter implements WebFilter {
+    private static final List<String> CACHEABLE_PREFIXES = List.of(
+            "/classes", "/subclasses", "/races", "/subraces", "/spells");
+
+    private final CatalogVersionService versions;
+    private final CatalogSnapshotService catalog;
+
+    @Value("${library.http.cache.max-age:60s}")
+    private Duration maxAge;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!isCacheable(exchange.getRequest()))
+            return chain.filter(exchange);
+
+        return versions.current().flatMap(committed -> {
+            ServerHttpResponse response = exchange.getResponse();
+            CatalogSnapshot snapshot = catalog.current();
+            if (snapshot.isLoaded() && snapshot.version().version() < committed.version()) {
+                catalog.catchUp();
+                response.getHeaders().setCacheControl(CacheControl.noCache());
+                return chain.filter(exchange);
+            }
+
+            // A snapshot that caught up after the read is newer still, and so is every database read that follows
+            CatalogVersion version = snapshot.isLoaded() ? snapshot.version() : committed;
+            if (exchange.checkNotModified(etag(exchange.getRequest(), version), version.updatedAt()))
+                return response.setComplete();
+
+            response.getHeaders().setCacheControl(CacheControl.maxAge(maxAge).cachePublic());
+            response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT));
+            // Errors depend on more than the catalog version, keep them out of caches
+            response.beforeCommit(() -> {
+                if (response.getStatusCode() != null && !response.getStatusCode().is2xxSuccessful()) {
+                    response.getHeaders().remove(HttpHeaders.ETAG);
+                    response.getHeaders().remove(HttpHeaders.LAST_MODIFIED);
+                    response.getHeaders().setCacheControl(CacheControl.noStore());
+                }
+                return Mono.empty();
+            });
+            return chain.filter(exchange);
+        });
+    }
+
+    private static boolean isCacheable(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD)
+            return false;
+
+        String path = request.getPath().pathWithinApplication().value();
+        return CACHEABLE_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * Path, query and Accept select the representation; the catalog version bounds the version of every document
+     * in it, so a list gets one combined tag that changes whenever any member can have.
+     */
+    private static String etag(ServerHttpRequest request, CatalogVersion version) {
+        String key = version.version() + "|" + request.getURI().getRawPath() + "?" + request.getURI().getRawQuery()
+                + "|" + request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
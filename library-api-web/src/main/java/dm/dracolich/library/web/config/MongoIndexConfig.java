@@ -1,6 +1,7 @@
 package dm.dracolich.library.web.config;
 
 import dm.dracolich.library.web.entity.*;
+import dm.dracolich.library.web.repository.NameCollation;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,70 +9,143 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class MongoIndexConfig {
 
     private final ReactiveMongoTemplate mongoTemplate;
+    private final StartupOrchestrator startup;
 
     @PostConstruct
     public void initIndexes() {
         log.info("Creating MongoDB indexes...");
+        List<Mono<String>> indexes = new ArrayList<>();
 
         // Unique index on attribute name
-        createIndexSafe(AttributeEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "attributes.name");
+        indexes.add(createIndexSafe(AttributeEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "attributes.name"));
 
         // Unique index on race name
-        createIndexSafe(RaceEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "races.name");
+        indexes.add(createIndexSafe(RaceEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "races.name"));
 
         // Unique index on class name
-        createIndexSafe(ClassEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "classes.name");
+        indexes.add(createIndexSafe(ClassEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "classes.name"));
 
         // Unique index on subclass name
-        createIndexSafe(SubclassEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "subclasses.name");
+        indexes.add(createIndexSafe(SubclassEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "subclasses.name"));
 
         // Index on subclass className for lookups
-        createIndexSafe(SubclassEntity.class, new Index().on("className", Sort.Direction.ASC), "subclasses.classId");
+        indexes.add(createIndexSafe(SubclassEntity.class, new Index().on("className", Sort.Direction.ASC), "subclasses.classId"));
 
         // Unique index on alignment name
-        createIndexSafe(AlignmentEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "alignments.name");
+        indexes.add(createIndexSafe(AlignmentEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "alignments.name"));
 
         // Unique index on background name
-        createIndexSafe(BackgroundEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "backgrounds.name");
+        indexes.add(createIndexSafe(BackgroundEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "backgrounds.name"));
 
         // Unique index on feature name
-        createIndexSafe(FeatureEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "features.name");
+        indexes.add(createIndexSafe(FeatureEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "features.name"));
 
         // Unique index on subrace name
-        createIndexSafe(SubraceEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "subraces.name");
+        indexes.add(createIndexSafe(SubraceEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "subraces.name"));
 
         // Index on subrace raceName for lookups
-        createIndexSafe(SubraceEntity.class, new Index().on("raceName", Sort.Direction.ASC), "subraces.raceName");
+        indexes.add(createIndexSafe(SubraceEntity.class, new Index().on("raceName", Sort.Direction.ASC), "subraces.raceName"));
 
         // Unique index on spell name
-        createIndexSafe(SpellEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "spells.name");
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "spells.name"));
 
         // Index on spell level for lookups
-        createIndexSafe(SpellEntity.class, new Index().on("minSlotLevel", Sort.Direction.ASC), "spells.minSlotLevel");
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("minSlotLevel", Sort.Direction.ASC), "spells.minSlotLevel"));
+
+        // Keyset scrolling over spells sorts by (name, _id), optionally narrowed by level
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("name", Sort.Direction.ASC).on("_id", Sort.Direction.ASC), "spells.name_id"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("minSlotLevel", Sort.Direction.ASC).on("name", Sort.Direction.ASC).on("_id", Sort.Direction.ASC), "spells.minSlotLevel_name_id"));
+
+        // Compound indexes for the spell filter combinations the browser sends; damageTypes makes its index multikey.
+        // SpellIndexCoverage logs at startup which expected filter shapes none of these lead with.
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("minSlotLevel", Sort.Direction.ASC).on("schoolType", Sort.Direction.ASC), "spells.minSlotLevel_schoolType"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("schoolType", Sort.Direction.ASC).on("spellType", Sort.Direction.ASC), "spells.schoolType_spellType"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("damageTypes", Sort.Direction.ASC).on("save", Sort.Direction.ASC), "spells.damageTypes_save"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("minSlotLevel", Sort.Direction.ASC).on("spellType", Sort.Direction.ASC).on("schoolType", Sort.Direction.ASC), "spells.minSlotLevel_spellType_schoolType"));
 
         // Unique index on equipment name
-        createIndexSafe(EquipmentEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "equipment.name");
+        indexes.add(createIndexSafe(EquipmentEntity.class, new Index().on("name", Sort.Direction.ASC).unique(), "equipment.name"));
 
         // Index on equipment category for lookups
-        createIndexSafe(EquipmentEntity.class, new Index().on("equipmentCategory", Sort.Direction.ASC), "equipment.equipmentCategory");
-
+        indexes.add(createIndexSafe(EquipmentEntity.class, new Index().on("equipmentCategory", Sort.Direction.ASC), "equipment.equipmentCategory"));
+
+        // Incremental exports read custom documents by modification time
+        indexes.add(createIndexSafe(ClassEntity.class, new Index().on("custom", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC), "classes.custom_updatedAt"));
+        indexes.add(createIndexSafe(SubclassEntity.class, new Index().on("custom", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC), "subclasses.custom_updatedAt"));
+        indexes.add(createIndexSafe(RaceEntity.class, new Index().on("custom", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC), "races.custom_updatedAt"));
+        indexes.add(createIndexSafe(BackgroundEntity.class, new Index().on("custom", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC), "backgrounds.custom_updatedAt"));
+        indexes.add(createIndexSafe(FeatureEntity.class, new Index().on("custom", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC), "features.custom_updatedAt"));
+
+        // Delta syncs range-scan documents and tombstones by catalog version
+        indexes.add(createIndexSafe(ClassEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "classes.updatedVersion"));
+        indexes.add(createIndexSafe(SubclassEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "subclasses.updatedVersion"));
+        indexes.add(createIndexSafe(RaceEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "races.updatedVersion"));
+        indexes.add(createIndexSafe(SubraceEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "subraces.updatedVersion"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "spells.updatedVersion"));
+        indexes.add(createIndexSafe(FeatureEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "features.updatedVersion"));
+        indexes.add(createIndexSafe(EquipmentEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "equipment.updatedVersion"));
+        indexes.add(createIndexSafe(BackgroundEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "backgrounds.updatedVersion"));
+        indexes.add(createIndexSafe(AlignmentEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "alignments.updatedVersion"));
+        indexes.add(createIndexSafe(AttributeEntity.class, new Index().on("updatedVersion", Sort.Direction.ASC), "attributes.updatedVersion"));
+        indexes.add(createIndexSafe(TombstoneEntity.class, new Index().on("version", Sort.Direction.ASC), "tombstones.version"));
+
+        // Case-insensitive name indexes back the exact name lookups on the single-entity and image routes
+        indexes.add(createIndexSafe(ClassEntity.class, caseInsensitiveNameIndex(), "classes.name_ci"));
+        indexes.add(createIndexSafe(RaceEntity.class, caseInsensitiveNameIndex(), "races.name_ci"));
+        indexes.add(createIndexSafe(SubclassEntity.class, caseInsensitiveNameIndex(), "subclasses.name_ci"));
+        indexes.add(createIndexSafe(SubraceEntity.class, caseInsensitiveNameIndex(), "subraces.name_ci"));
+        indexes.add(createIndexSafe(SpellEntity.class, caseInsensitiveNameIndex(), "spells.name_ci"));
+        indexes.add(createIndexSafe(EquipmentEntity.class, caseInsensitiveNameIndex(), "equipment.name_ci"));
+
+        // Batched subclass and subrace resolution matches parent names under the same collation
+        indexes.add(createIndexSafe(SubclassEntity.class, caseInsensitiveIndex("className", NameCollation.CLASS_NAME_INDEX_NAME), "subclasses.className_ci"));
+        indexes.add(createIndexSafe(SubraceEntity.class, caseInsensitiveIndex("raceName", NameCollation.RACE_NAME_INDEX_NAME), "subraces.raceName_ci"));
+
+        // Normalized name keys back the anchored prefix name searches; contains matches cannot use them
+        indexes.add(createIndexSafe(AttributeEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "attributes.nameKey"));
+        indexes.add(createIndexSafe(RaceEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "races.nameKey"));
+        indexes.add(createIndexSafe(ClassEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "classes.nameKey"));
+        indexes.add(createIndexSafe(SubclassEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "subclasses.nameKey"));
+        indexes.add(createIndexSafe(AlignmentEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "alignments.nameKey"));
+        indexes.add(createIndexSafe(BackgroundEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "backgrounds.nameKey"));
+        indexes.add(createIndexSafe(FeatureEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "features.nameKey"));
+        indexes.add(createIndexSafe(SubraceEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "subraces.nameKey"));
+        indexes.add(createIndexSafe(SpellEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "spells.nameKey"));
+        indexes.add(createIndexSafe(EquipmentEntity.class, new Index().on("nameKey", Sort.Direction.ASC), "equipment.nameKey"));
+
+        // Readiness waits for the index builds, so the first requests don't fall back to collection scans
+        startup.track("indexes", Flux.merge(indexes).then()).subscribe();
         log.info("MongoDB indexes creation initiated");
     }
 
-    private void createIndexSafe(Class<?> entityClass, Index index, String indexDescription) {
-        mongoTemplate.indexOps(entityClass).createIndex(index)
+    private Index caseInsensitiveNameIndex() {
+        return caseInsensitiveIndex("name", NameCollation.INDEX_NAME);
+    }
+
+    private Index caseInsensitiveIndex(String field, String indexName) {
+        return new Index().on(field, Sort.Direction.ASC)
+                .named(indexName)
+                .collation(NameCollation.COLLATION);
+    }
+
+    private Mono<String> createIndexSafe(Class<?> entityClass, Index index, String indexDescription) {
+        return mongoTemplate.indexOps(entityClass).createIndex(index)
+                .doOnNext(result -> log.debug("Created index on {}: {}", indexDescription, result))
                 .onErrorResume(e -> {
                     log.debug("Index {} already exists or conflict: {}", indexDescription, e.getMessage());
                     return Mono.empty();
-                })
-                .subscribe(result -> log.debug("Created index on {}: {}", indexDescription, result));
+                });
     }
 }
@@ -0,0 +1,21 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.entity.NameKeys;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps {@code nameKey} in sync with {@code name} on every save, so no write path has to remember it.
+ */
+@Component
+public class NameKeyCallback implements ReactiveBeforeConvertCallback<CatalogEntity> {
+
+    @Override
+    public Publisher<CatalogEntity> onBeforeConvert(CatalogEntity entity, String collection) {
+        entity.setNameKey(NameKeys.normalize(entity.getName()));
+        return Mono.just(entity);
+    }
+}
@@ -0,0 +1,66 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.entity.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Backfills {@code nameKey} on documents written before the field existed.
+ * Only documents missing the field are read, so on an up-to-date database this is one empty query per collection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NameKeyMigration {
+    private static final int BATCH_SIZE = 500;
+
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final StartupOrchestrator startup;
+
+    // Readiness waits for the backfill, name searches miss documents without a nameKey
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNameKeys() {
+        startup.track("name-key-backfill", Flux.fromIterable(CatalogEntities.ALL)
+                        .concatMap(this::backfill)
+                        .reduce(0L, Long::sum))
+                .subscribe(
+                        total -> log.info("nameKey backfill completed, {} documents updated", total),
+                        error -> log.error("nameKey backfill failed", error)
+                );
+    }
+
+    private Mono<Long> backfill(Class<? extends CatalogEntity> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Query missing = Query.query(Criteria.where("nameKey").exists(false));
+        missing.fields().include("name");
+
+        return mongoTemplate.find(missing, Document.class, collection)
+                .buffer(BATCH_SIZE)
+                .concatMap(batch -> {
+                    ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                    batch.forEach(document -> bulk.updateOne(
+                            Query.query(Criteria.where("_id").is(document.get("_id"))),
+                            Update.update("nameKey", NameKeys.normalize(document.getString("name")))));
+                    return bulk.execute();
+                })
+                .map(result -> (long) result.getModifiedCount())
+                .reduce(0L, Long::sum)
+                .doOnNext(updated -> {
+                    if (updated > 0)
+                        log.info("Backfilled nameKey on {} {} documents", updated, collection);
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package dm.dracolich.library.web.config;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A small DAG of seeding stages. Each stage starts once all of its dependencies have completed, and at most
+ * {@code parallelism} stages are in flight at a time. Stages are declared in dependency order, so a stage can only
+ * depend on stages declared before it.
+ */
+@Slf4j
+final class SeedGraph {
+    private final Map<String, Mono<Duration>> stages = new LinkedHashMap<>();
+
+    SeedGraph stage(String name, Supplier<Mono<Void>> task, String... dependsOn) {
+        List<Mono<Duration>> dependencies = Arrays.stream(dependsOn)
+                .map(dependency -> Objects.requireNonNull(stages.get(dependency),
+                        () -> "Stage " + name + " depends on undeclared stage " + dependency))
+                .toList();
+
+        Mono<Duration> run = Mono.when(dependencies)
+                .then(Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    return Mono.defer(task)
+                            .then(Mono.fromCallable(() -> Duration.ofNanos(System.nanoTime() - startedAt)));
+                }))
+                .doOnNext(elapsed -> log.info("Seed stage {} completed in {} ms", name, elapsed.toMillis()))
+                .cache();
+        stages.put(name, run);
+        return this;
+    }
+
+    /**
+     * Runs every stage and returns their durations in declaration order; the first failure fails the run.
+     */
+    Mono<Map<String, Duration>> run(int parallelism) {
+        return Flux.fromIterable(stages.entrySet())
+                .flatMap(stage -> stage.getValue().map(elapsed -> Map.entry(stage.getKey(), elapsed)), parallelism)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(timings -> {
+                    Map<String, Duration> ordered = new LinkedHashMap<>();
+                    stages.keySet().forEach(name -> ordered.put(name, timings.get(name)));
+                    return ordered;
+                });
+    }
+}
@@ -0,0 +1,54 @@
+package dm.dracolich.library.web.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams the seed set from gzip-compressed NDJSON, one file per collection and one document per line.
+ * A file is only opened while a seed run reads it, so nothing of the seed set stays on the heap afterwards.
+ * Point {@code library.seed.location} at a directory to try seed edits without rebuilding.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeedResources {
+    private final ResourceLoader resourceLoader;
+    private final JsonMapper jsonMapper;
+
+    @Value("${library.seed.location:classpath:seed/v1/}")
+    private String location;
+
+    public <E> Flux<E> read(String collection, Class<E> type) {
+        String path = location + collection + ".ndjson.gz";
+        ObjectReader reader = jsonMapper.readerFor(type);
+        return Flux.using(
+                        () -> new BufferedReader(new InputStreamReader(
+                                new GZIPInputStream(resourceLoader.getResource(path).getInputStream()), StandardCharsets.UTF_8)),
+                        lines -> Flux.fromStream(lines.lines())
+                                .filter(line -> !line.isBlank())
+                                .map(line -> reader.<E>readValue(line)),
+                        lines -> close(lines, path))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static void close(BufferedReader lines, String path) {
+        try {
+            lines.close();
+        } catch (IOException e) {
+            log.debug("Failed to close seed resource {}: {}", path, e.getMessage());
+        }
+    }
+}
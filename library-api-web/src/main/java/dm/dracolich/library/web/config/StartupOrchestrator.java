@@ -0,0 +1,178 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.response.StartupResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the work an instance has to finish before it serves traffic: index builds, backfills, seeding and cache prefill.
+ * When Spring Boot marks the application ready, readiness is turned back to {@code REFUSING_TRAFFIC} until every
+ * tracked task has finished or {@code library.startup.readiness-timeout} runs out. A failed task releases readiness
+ * too; it is logged and the affected paths fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupOrchestrator {
+    private final ApplicationEventPublisher publisher;
+    private final ApplicationAvailability availability;
+
+    @Value("${library.startup.readiness-timeout:2m}")
+    private Duration readinessTimeout;
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Task> tasks = new LinkedHashMap<>(); // guarded by this, kept in registration order
+    private boolean readinessRequested;
+    private boolean released;
+
+    public enum TaskState { PENDING, RUNNING, DONE, FAILED }
+
+    /**
+     * Registers {@code work} as pending right away, so readiness waits for it even before it is subscribed.
+     */
+    public <T> Mono<T> track(String name, Mono<T> work) {
+        Task task = new Task(name);
+        synchronized (this) {
+            tasks.put(name, task);
+        }
+        return work
+                .doOnSubscribe(subscription -> task.start())
+                .doOnSuccess(result -> finish(task, TaskState.DONE, null))
+                .doOnError(error -> finish(task, TaskState.FAILED, error.getMessage()))
+                .doOnCancel(() -> finish(task, TaskState.FAILED, "cancelled"));
+    }
+
+    /**
+     * Completes once the task called {@code name} has finished, failed or not; right away for names never tracked.
+     */
+    public Mono<Void> finished(String name) {
+        Task task;
+        synchronized (this) {
+            task = tasks.get(name);
+        }
+        return task == null ? Mono.empty() : task.finished.asMono();
+    }
+
+    // Ordered last so Boot's availability bean has recorded ACCEPTING_TRAFFIC before it is taken back
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public synchronized void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || released || readinessRequested)
+            return;
+
+        readinessRequested = true;
+        List<String> unfinished = unfinished();
+        if (unfinished.isEmpty()) {
+            released = true;
+            log.info("Startup tasks finished before the application was ready");
+            return;
+        }
+
+        log.info("Holding readiness for up to {} until startup tasks finish: {}", readinessTimeout, unfinished);
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        Mono.delay(readinessTimeout).subscribe(tick -> release(true));
+    }
+
+    public synchronized StartupResponse progress() {
+        return StartupResponse.builder()
+                .ready(availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC)
+                .elapsedMillis(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                .tasks(tasks.values().stream().map(Task::progress).toList())
+                .build();
+    }
+
+    private synchronized void finish(Task task, TaskState state, String error) {
+        if (task.state == TaskState.DONE || task.state == TaskState.FAILED)
+            return;
+
+        task.finish(state, error);
+        if (state == TaskState.FAILED)
+            log.warn("Startup task {} failed after {} ms: {}", task.name, task.millis(), error);
+        else
+            log.info("Startup task {} finished in {} ms", task.name, task.millis());
+
+        if (readinessRequested && unfinished().isEmpty())
+            release(false);
+    }
+
+    private synchronized void release(boolean timedOut) {
+        if (released)
+            return;
+
+        released = true;
+        if (timedOut)
+            log.warn("Readiness timeout of {} reached, accepting traffic with unfinished startup tasks: {}",
+                    readinessTimeout, unfinished());
+        else
+            log.info("Startup tasks finished after {} ms, accepting traffic",
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private List<String> unfinished() {
+        List<String> unfinished = new ArrayList<>();
+        tasks.values().forEach(task -> {
+            if (task.state == TaskState.PENDING || task.state == TaskState.RUNNING)
+                unfinished.add(task.name);
+        });
+        return unfinished;
+    }
+
+    private static final class Task {
+        private final String name;
+        private volatile TaskState state = TaskState.PENDING;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile String error;
+        private final Sinks.Empty<Void> finished = Sinks.empty();
+
+        Task(String name) {
+            this.name = name;
+        }
+
+        void start() {
+            startedAt = System.nanoTime();
+            state = TaskState.RUNNING;
+        }
+
+        void finish(TaskState state, String error) {
+            finishedAt = System.nanoTime();
+            this.error = error;
+            this.state = state;
+            finished.tryEmitEmpty();
+        }
+
+        Long millis() {
+            if (state == TaskState.PENDING)
+                return null;
+            long end = state == TaskState.RUNNING ? System.nanoTime() : finishedAt;
+            return Duration.ofNanos(end - startedAt).toMillis();
+        }
+
+        StartupResponse.Task progress() {
+            return StartupResponse.Task.builder()
+                    .name(name)
+                    .state(state.name())
+                    .durationMillis(millis())
+                    .error(error)
+                    .build();
+        }
+    }
+}
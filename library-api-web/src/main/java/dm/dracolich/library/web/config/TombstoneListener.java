@@ -0,0 +1,75 @@
+package dm.dracolich.library.web.config;
+
+import dm.dracolich.library.web.entity.CatalogEntities;
+import dm.dracolich.library.web.entity.TombstoneEntity;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a tombstone for every library document deleted by id, so delta syncs can report the deletion.
+ * Deletes by any other criteria carry no ids and are logged instead; clients have to resync from 0 after those.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TombstoneListener {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+
+    private Set<String> collections;
+
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        String collection = event.getCollectionName();
+        if (!catalogCollections().contains(collection))
+            return;
+
+        List<String> ids = deletedIds(event.getSource());
+        if (ids.isEmpty()) {
+            log.warn("Delete on {} without an id filter, it will not be reported to delta syncs", collection);
+            return;
+        }
+
+        Flux.fromIterable(ids)
+                .concatMap(id -> versions.withNext(version -> mongoTemplate.insert(TombstoneEntity.builder()
+                        .collection(collection)
+                        .documentId(id)
+                        .version(version)
+                        .deletedAt(Instant.now())
+                        .build())))
+                .subscribe(
+                        tombstone -> log.debug("Recorded tombstone for {} {}", collection, tombstone.getDocumentId()),
+                        error -> log.error("Failed to record tombstones for {}", collection, error)
+                );
+    }
+
+    private static List<String> deletedIds(Document query) {
+        Object id = query.get("_id");
+        if (id instanceof Document operator && operator.get("$in") instanceof Collection<?> in)
+            return in.stream().map(String::valueOf).toList();
+        if (id == null || id instanceof Document)
+            return List.of();
+        return List.of(String.valueOf(id));
+    }
+
+    private Set<String> catalogCollections() {
+        if (collections == null)
+            collections = CatalogEntities.ALL.stream()
+                    .map(mongoTemplate::getCollectionName)
+                    .collect(Collectors.toUnmodifiableSet());
+        return collections;
+    }
+}
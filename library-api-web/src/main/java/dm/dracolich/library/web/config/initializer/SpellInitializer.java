@@ -1,847 +0,0 @@
-package dm.dracolich.library.web.config.initializer;
-
-import dm.dracolich.library.dto.enums.AbilityTypeEnum;
-import dm.dracolich.library.dto.enums.AttackTypeEnum;
-import dm.dracolich.library.dto.enums.DamageTypeEnum;
-import dm.dracolich.library.dto.enums.DiceTypeEnum;
-import dm.dracolich.library.dto.enums.SchoolTypeEnum;
-import dm.dracolich.library.dto.enums.SpellTypeEnum;
-import dm.dracolich.library.web.entity.SpellEntity;
-import org.springframework.stereotype.Component;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-
-@Component
-public class SpellInitializer {
-
-    public List<SpellEntity> createAllSpells() {
-        List<SpellEntity> spells = new ArrayList<>();
-        spells.addAll(createCantrips());
-        spells.addAll(createLevel1Spells());
-        spells.addAll(createLevel2Spells());
-        spells.addAll(createLevel3Spells());
-        spells.addAll(createLevel4Spells());
-        spells.addAll(createLevel5Spells());
-        spells.addAll(createLevel6Spells());
-        spells.addAll(createLevel7Spells());
-        spells.addAll(createLevel8Spells());
-        spells.addAll(createLevel9Spells());
-        return spells;
-    }
-
-    // ==================== CANTRIPS ====================
-
-    private List<SpellEntity> createCantrips() {
-        return List.of(
-            // CONJURATION
-            SpellEntity.builder().name("Acid Splash").schoolType(SchoolTypeEnum.CONJURATION).description("You hurl a bubble of acid. Choose one creature you can see within range, or choose two creatures you can see within range that are within 5 feet of each other. A target must succeed on a Dexterity saving throw or take 1d6 acid damage.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.ACID)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Create Bonfire").schoolType(SchoolTypeEnum.CONJURATION).description("You create a bonfire on ground that you can see within range. Until the spell ends, the magic bonfire fills a 5-foot cube. Any creature in the bonfire's space when you cast the spell must succeed on a Dexterity saving throw or take 1d8 fire damage. A creature must also make the saving throw when it moves into the bonfire's space for the first time on a turn or ends its turn there.").minSlotLevel(0).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Infestation").schoolType(SchoolTypeEnum.CONJURATION).description("You cause a cloud of mites, fleas, and other parasites to appear momentarily on one creature you can see within range. The target must succeed on a Constitution saving throw, or it takes 1d6 poison damage and moves 5 feet in a random direction.").minSlotLevel(0).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.POISON)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Mage Hand").schoolType(SchoolTypeEnum.CONJURATION).description("A spectral, floating hand appears at a point you choose within range. The hand lasts for the duration or until you dismiss it as an action. The hand vanishes if it is ever more than 30 feet away from you or if you cast this spell again.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Poison Spray").schoolType(SchoolTypeEnum.CONJURATION).description("You extend your hand toward a creature you can see within range and project a puff of noxious gas from your palm. The creature must succeed on a Constitution saving throw or take 1d12 poison damage.").minSlotLevel(0).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.POISON)).diceType(DiceTypeEnum.D12).valueAtSlotLevel(cantripScaling("d12")).valueAtSlotLevelDescription("Damage increases by 1d12").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Produce Flame").schoolType(SchoolTypeEnum.CONJURATION).description("A flickering flame appears in your hand. The flame remains there for the duration and harms neither you nor your equipment. The flame sheds bright light in a 10-foot radius and dim light for an additional 10 feet. You can also attack with the flame, although doing so ends the spell.").minSlotLevel(0).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Sword Burst").schoolType(SchoolTypeEnum.CONJURATION).description("You create a momentary circle of spectral blades that sweep around you. All other creatures within 5 feet of you must succeed on a Dexterity saving throw or take 1d6 force damage.").minSlotLevel(0).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-
-            // DIVINATION
-            SpellEntity.builder().name("Guidance").schoolType(SchoolTypeEnum.DIVINATION).description("You touch one willing creature. Once before the spell ends, the target can roll a d4 and add the number rolled to one ability check of its choice. It can roll the die before or after making the ability check. The spell then ends.").minSlotLevel(0).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-            SpellEntity.builder().name("True Strike").schoolType(SchoolTypeEnum.DIVINATION).description("You point a finger at a target in range. Your magic grants you a brief insight into the target's defenses. On your next turn, you gain advantage on your first attack roll against the target, provided that this spell hasn't ended.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Round").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-            // ENCHANTMENT
-            SpellEntity.builder().name("Friends").schoolType(SchoolTypeEnum.ENCHANTMENT).description("For the duration, you have advantage on all Charisma checks directed at one creature of your choice that isn't hostile toward you. When the spell ends, the creature realizes that you used magic to influence its mood and becomes hostile toward you.").minSlotLevel(0).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-            SpellEntity.builder().name("Mind Sliver").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You drive a disorienting spike of psychic energy into the mind of one creature you can see within range. The target must succeed on an Intelligence saving throw or take 1d6 psychic damage and subtract 1d4 from the next saving throw it makes before the end of your next turn.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.INT).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Vicious Mockery").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You unleash a string of insults laced with subtle enchantments at a creature you can see within range. If the target can hear you (though it need not understand you), it must succeed on a Wisdom saving throw or take 1d4 psychic damage and have disadvantage on the next attack roll it makes before the end of its next turn.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.WIS).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D4).valueAtSlotLevel(cantripScaling("d4")).valueAtSlotLevelDescription("Damage increases by 1d4").slotIncreaseType("character level").build(),
-
-            // EVOCATION
-            SpellEntity.builder().name("Booming Blade").schoolType(SchoolTypeEnum.EVOCATION).description("You brandish the weapon used in the spell's casting and make a melee attack with it against one creature within 5 feet of you. On a hit, the target suffers the weapon attack's normal effects and then becomes sheathed in booming energy until the start of your next turn. If the target willingly moves 5 feet or more before then, the target takes 1d8 thunder damage, and the spell ends.").minSlotLevel(0).castingTime("Action").range(5).duration("1 Round").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(5, "1d8 + 2d8 if moves", 11, "2d8 + 3d8 if moves", 17, "3d8 + 4d8 if moves")).valueAtSlotLevelDescription("Initial and movement damage increase").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Dancing Lights").schoolType(SchoolTypeEnum.EVOCATION).description("You create up to four torch-sized lights within range, making them appear as torches, lanterns, or glowing orbs that hover in the air for the duration. You can also combine the four lights into one glowing vaguely humanoid form of Medium size.").minSlotLevel(0).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-            SpellEntity.builder().name("Eldritch Blast").schoolType(SchoolTypeEnum.EVOCATION).description("A beam of crackling energy streaks toward a creature within range. Make a ranged spell attack against the target. On a hit, the target takes 1d10 force damage. The spell creates more than one beam when you reach higher levels: two beams at 5th level, three beams at 11th level, and four beams at 17th level.").minSlotLevel(0).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(Map.of(5, "2 beams", 11, "3 beams", 17, "4 beams")).valueAtSlotLevelDescription("Additional beam").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Fire Bolt").schoolType(SchoolTypeEnum.EVOCATION).description("You hurl a mote of fire at a creature or object within range. Make a ranged spell attack against the target. On a hit, the target takes 1d10 fire damage. A flammable object hit by this spell ignites if it isn't being worn or carried.").minSlotLevel(0).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(cantripScaling("d10")).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Frostbite").schoolType(SchoolTypeEnum.EVOCATION).description("You cause numbing frost to form on one creature that you can see within range. The target must make a Constitution saving throw. On a failed save, the target takes 1d6 cold damage, and it has disadvantage on the next weapon attack roll it makes before the end of its next turn.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Green-Flame Blade").schoolType(SchoolTypeEnum.EVOCATION).description("You brandish the weapon used in the spell's casting and make a melee attack with it against one creature within 5 feet of you. On a hit, the target suffers the weapon attack's normal effects, and you can cause green fire to leap from the target to a different creature of your choice that you can see within 5 feet of it.").minSlotLevel(0).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(5, "1d8 + mod leap", 11, "2d8 + mod leap", 17, "3d8 + mod leap")).valueAtSlotLevelDescription("Adds melee damage and increases leap damage").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Light").schoolType(SchoolTypeEnum.EVOCATION).description("You touch one object that is no larger than 10 feet in any dimension. Until the spell ends, the object sheds bright light in a 20-foot radius and dim light for an additional 20 feet.").minSlotLevel(0).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Lightning Lure").schoolType(SchoolTypeEnum.EVOCATION).description("You create a lash of lightning energy that strikes at one creature of your choice that you can see within 15 feet of you. The target must succeed on a Strength saving throw or be pulled up to 10 feet in a straight line toward you and then take 1d8 lightning damage if it is within 5 feet of you.").minSlotLevel(0).castingTime("Action").range(15).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.STR).damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Ray of Frost").schoolType(SchoolTypeEnum.EVOCATION).description("A frigid beam of blue-white light streaks toward a creature within range. Make a ranged spell attack against the target. On a hit, it takes 1d8 cold damage, and its speed is reduced by 10 feet until the start of your next turn.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Sacred Flame").schoolType(SchoolTypeEnum.EVOCATION).description("Flame-like radiance descends on a creature that you can see within range. The target must succeed on a Dexterity saving throw or take 1d8 radiant damage. The target gains no benefit from cover for this saving throw.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Shocking Grasp").schoolType(SchoolTypeEnum.EVOCATION).description("Lightning springs from your hand to deliver a shock to a creature you try to touch. Make a melee spell attack against the target. You have advantage on the attack roll if the target is wearing armor made of metal. On a hit, the target takes 1d8 lightning damage, and it can't take reactions until the start of its next turn.").minSlotLevel(0).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Thunderclap").schoolType(SchoolTypeEnum.EVOCATION).description("You create a burst of thunderous sound that can be heard up to 100 feet away. Each creature within range, other than you, must succeed on a Constitution saving throw or take 1d6 thunder damage.").minSlotLevel(0).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Word of Radiance").schoolType(SchoolTypeEnum.EVOCATION).description("You utter a divine word, and burning radiance erupts from you. Each creature of your choice that you can see within range must succeed on a Constitution saving throw or take 1d6 radiant damage.").minSlotLevel(0).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build(),
-
-            // ILLUSION
-            SpellEntity.builder().name("Minor Illusion").schoolType(SchoolTypeEnum.ILLUSION).description("You create a sound or an image of an object within range that lasts for the duration. The illusion also ends if you dismiss it as an action or cast this spell again.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-
-            // NECROMANCY
-            SpellEntity.builder().name("Chill Touch").schoolType(SchoolTypeEnum.NECROMANCY).description("You create a ghostly, skeletal hand in the space of a creature within range. Make a ranged spell attack against the creature to assail it with the chill of the grave. On a hit, the target takes 1d8 necrotic damage, and it can't regain hit points until the start of your next turn. Until then, the hand clings to the target.").minSlotLevel(0).castingTime("Action").range(120).duration("1 Round").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(cantripScaling("d8")).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Spare the Dying").schoolType(SchoolTypeEnum.NECROMANCY).description("You touch a living creature that has 0 hit points. The creature becomes stable. This spell has no effect on undead or constructs.").minSlotLevel(0).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-            SpellEntity.builder().name("Toll the Dead").schoolType(SchoolTypeEnum.NECROMANCY).description("You point at one creature you can see within range, and the sound of a dolorous bell fills the air around it for a moment. The target must succeed on a Wisdom saving throw or take 1d8 necrotic damage. If the target is missing any of its hit points, it instead takes 1d12 necrotic damage.").minSlotLevel(0).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.WIS).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(5, "2d8/2d12", 11, "3d8/3d12", 17, "4d8/4d12")).valueAtSlotLevelDescription("Damage increases by 1d8/1d12").slotIncreaseType("character level").build(),
-
-            // TRANSMUTATION
-            SpellEntity.builder().name("Blade Ward").schoolType(SchoolTypeEnum.ABJURATION).description("You extend your hand and trace a sigil of warding in the air. Until the end of your next turn, you have resistance against bludgeoning, piercing, and slashing damage dealt by weapon attacks.").minSlotLevel(0).castingTime("Action").range(0).duration("1 Round").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Control Flames").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You choose nonmagical flame that you can see within range and that fits within a 5-foot cube. You affect it in one of several ways.").minSlotLevel(0).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Druidcraft").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Whispering to the spirits of nature, you create one of several minor effects within range.").minSlotLevel(0).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Gust").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You seize the air and compel it to create one of several effects at a point you can see within range.").minSlotLevel(0).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Magic Stone").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch one to three pebbles and imbue them with magic. You or someone else can make a ranged spell attack with one of the pebbles by throwing it or hurling it with a sling. If thrown, a pebble has a range of 60 feet. On a hit, the target takes bludgeoning damage equal to 1d6 + your spellcasting ability modifier.").minSlotLevel(0).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).build(),
-            SpellEntity.builder().name("Mending").schoolType(SchoolTypeEnum.TRANSMUTATION).description("This spell repairs a single break or tear in an object you touch, such as broken chain link, two halves of a broken key, a torn cloak, or a leaking wineskin.").minSlotLevel(0).castingTime("1 Minute").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Message").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You point your finger toward a creature within range and whisper a message. The target (and only the target) hears the message and can reply in a whisper that only you can hear.").minSlotLevel(0).castingTime("Action").range(120).duration("1 Round").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Mold Earth").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You choose a portion of dirt or stone that you can see within range and that fits within a 5-foot cube. You manipulate it in one of several ways.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Prestidigitation").schoolType(SchoolTypeEnum.TRANSMUTATION).description("This spell is a minor magical trick that novice spellcasters use for practice. You create one of several minor magical effects.").minSlotLevel(0).castingTime("Action").range(10).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Primal Savagery").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You channel primal magic to cause your teeth or fingernails to sharpen, ready to deliver a corrosive attack. Make a melee spell attack against one creature within 5 feet of you. On a hit, the target takes 1d10 acid damage.").minSlotLevel(0).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.ACID)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(cantripScaling("d10")).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("character level").build(),
-            SpellEntity.builder().name("Resistance").schoolType(SchoolTypeEnum.ABJURATION).description("You touch one willing creature. Once before the spell ends, the target can roll a d4 and add the number rolled to one saving throw of its choice. It can roll the die before or after making the saving throw.").minSlotLevel(0).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-            SpellEntity.builder().name("Shape Water").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You choose an area of water that you can see within range and that fits within a 5-foot cube. You manipulate it in one of several ways.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Shillelagh").schoolType(SchoolTypeEnum.TRANSMUTATION).description("The wood of a club or quarterstaff you are holding is imbued with nature's power. For the duration, you can use your spellcasting ability instead of Strength for the attack and damage rolls of melee attacks using that weapon, and the weapon's damage die becomes a d8.").minSlotLevel(0).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Thaumaturgy").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You manifest a minor wonder, a sign of supernatural power, within range.").minSlotLevel(0).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-            SpellEntity.builder().name("Thorn Whip").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You create a long, vine-like whip covered in thorns that lashes out at your command toward a creature in range. Make a melee spell attack against the target. If the attack hits, the creature takes 1d6 piercing damage, and if the creature is Large or smaller, you pull the creature up to 10 feet closer to you.").minSlotLevel(0).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(cantripScaling("d6")).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("character level").build()
-        );
-    }
-
-    // ==================== LEVEL 1 SPELLS ====================
-    private List<SpellEntity> createLevel1Spells() {
-        return List.of(
-                // EVOCATION - Attack spells
-                SpellEntity.builder().name("Burning Hands").schoolType(SchoolTypeEnum.EVOCATION).description("A thin sheet of flames shoots forth from your outstretched fingertips. Each creature in a 15-foot cone must make a Dexterity saving throw, taking 3d6 fire damage on a failed save.").minSlotLevel(1).castingTime("Action").range(15).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(3, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Chromatic Orb").schoolType(SchoolTypeEnum.EVOCATION).description("You hurl a 4-inch-diameter sphere of energy at a creature you can see within range. Choose acid, cold, fire, lightning, poison, or thunder for the damage type. The target takes 3d8 damage.").minSlotLevel(1).castingTime("Action").range(90).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.ACID, DamageTypeEnum.COLD, DamageTypeEnum.FIRE, DamageTypeEnum.LIGHTNING, DamageTypeEnum.POISON, DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 1)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Guiding Bolt").schoolType(SchoolTypeEnum.EVOCATION).description("A flash of light streaks toward a creature of your choice within range. Make a ranged spell attack. On hit, the target takes 4d6 radiant damage and the next attack roll against it has advantage.").minSlotLevel(1).castingTime("Action").range(120).duration("1 Round").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(4, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Hellish Rebuke").schoolType(SchoolTypeEnum.EVOCATION).description("You point your finger, and the creature that damaged you is momentarily surrounded by hellish flames. The creature must make a Dexterity saving throw, taking 2d10 fire damage on a failed save.").minSlotLevel(1).castingTime("Reaction").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(slotScaling(2, "d10", 1)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Magic Missile").schoolType(SchoolTypeEnum.EVOCATION).description("You create three glowing darts of magical force. Each dart hits a creature of your choice that you can see within range, dealing 1d4 + 1 force damage.").minSlotLevel(1).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D4).valueAtSlotLevel(Map.of(2, "4 darts", 3, "5 darts", 4, "6 darts", 5, "7 darts", 6, "8 darts", 7, "9 darts", 8, "10 darts", 9, "11 darts")).valueAtSlotLevelDescription("One additional dart").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Thunderwave").schoolType(SchoolTypeEnum.EVOCATION).description("A wave of thunderous force sweeps out from you. Each creature in a 15-foot cube originating from you must make a Constitution saving throw, taking 2d8 thunder damage on a failed save.").minSlotLevel(1).castingTime("Action").range(15).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(2, "d8", 1)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Earth Tremor").schoolType(SchoolTypeEnum.EVOCATION).description("You cause a tremor in the ground within range. Each creature other than you in that area must make a Dexterity saving throw, taking 1d6 bludgeoning damage on a failed save.").minSlotLevel(1).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(1, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Witch Bolt").schoolType(SchoolTypeEnum.EVOCATION).description("A beam of crackling, blue energy lances out toward a creature within range, forming a sustained arc of lightning. The target takes 1d12 lightning damage.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D12).valueAtSlotLevel(slotScaling(1, "d12", 1)).valueAtSlotLevelDescription("Initial damage increases by 1d12").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Cure Wounds").schoolType(SchoolTypeEnum.EVOCATION).description("A creature you touch regains a number of hit points equal to 1d8 + your spellcasting ability modifier.").minSlotLevel(1).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(1, "d8", 1)).valueAtSlotLevelDescription("Healing increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Healing Word").schoolType(SchoolTypeEnum.EVOCATION).description("A creature of your choice that you can see within range regains hit points equal to 1d4 + your spellcasting ability modifier.").minSlotLevel(1).castingTime("Bonus Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).diceType(DiceTypeEnum.D4).valueAtSlotLevel(slotScaling(1, "d4", 1)).valueAtSlotLevelDescription("Healing increases by 1d4").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Faerie Fire").schoolType(SchoolTypeEnum.EVOCATION).description("Each object in a 20-foot cube within range is outlined in blue, green, or violet light. Any creature in the area is also outlined.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Divine Favor").schoolType(SchoolTypeEnum.EVOCATION).description("Your prayer empowers you with divine radiance. Until the spell ends, your weapon attacks deal an extra 1d4 radiant damage on a hit.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D4).build(),
-                SpellEntity.builder().name("Searing Smite").schoolType(SchoolTypeEnum.EVOCATION).description("The next time you hit a creature with a melee weapon attack during the spell's duration, your weapon flares with white-hot intensity, dealing 1d6 fire damage.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(1, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Thunderous Smite").schoolType(SchoolTypeEnum.EVOCATION).description("The first time you hit with a melee weapon attack during this spell's duration, your weapon rings with thunder, dealing 2d6 thunder damage.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Wrathful Smite").schoolType(SchoolTypeEnum.EVOCATION).description("The next time you hit with a melee weapon attack during this spell's duration, your attack deals an extra 1d6 psychic damage.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.WIS).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Catapult").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose one object weighing 1 to 5 pounds within range that isn't being worn or carried. The object flies in a straight line up to 90 feet, dealing 3d8 bludgeoning damage on impact.").minSlotLevel(1).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 1)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Goodberry").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Up to ten berries appear in your hand and are infused with magic for the duration. A creature can use its action to eat one berry, restoring 1 hit point.").minSlotLevel(1).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Expeditious Retreat").schoolType(SchoolTypeEnum.TRANSMUTATION).description("This spell allows you to move at an incredible pace. When you cast this spell, and as a bonus action, you can take the Dash action.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Feather Fall").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose up to five falling creatures within range. A falling creature's rate of descent slows to 60 feet per round.").minSlotLevel(1).castingTime("Reaction").range(60).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Jump").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a creature. The creature's jump distance is tripled until the spell ends.").minSlotLevel(1).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Longstrider").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a creature. The target's speed increases by 10 feet until the spell ends.").minSlotLevel(1).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Purify Food and Drink").schoolType(SchoolTypeEnum.TRANSMUTATION).description("All nonmagical food and drink within a 5-foot-radius sphere centered on a point of your choice is rendered free of poison and disease.").minSlotLevel(1).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Create or Destroy Water").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You either create or destroy water.").minSlotLevel(1).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Ice Knife").schoolType(SchoolTypeEnum.CONJURATION).description("You create a shard of ice and fling it at one creature within range. Make a ranged spell attack. On hit, the target takes 1d10 piercing damage. The shard then explodes for 2d6 cold damage.").minSlotLevel(1).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.PIERCING, DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(2, "d6", 1)).valueAtSlotLevelDescription("Explosion damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Arms of Hadar").schoolType(SchoolTypeEnum.CONJURATION).description("You invoke the power of Hadar, the Dark Hunger. Tendrils of dark energy erupt from you and batter all creatures within 10 feet of you, dealing 2d6 necrotic damage.").minSlotLevel(1).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF).save(AbilityTypeEnum.STR).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(2, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Ensnaring Strike").schoolType(SchoolTypeEnum.CONJURATION).description("The next time you hit a creature with a weapon attack before this spell ends, a writhing mass of thorny vines appears.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(1, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Entangle").schoolType(SchoolTypeEnum.CONJURATION).description("Grasping weeds and vines sprout from the ground in a 20-foot square starting from a point within range.").minSlotLevel(1).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Find Familiar").schoolType(SchoolTypeEnum.CONJURATION).description("You gain the service of a familiar, a spirit that takes an animal form you choose.").minSlotLevel(1).castingTime("60 Minutes").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Fog Cloud").schoolType(SchoolTypeEnum.CONJURATION).description("You create a 20-foot-radius sphere of fog centered on a point within range. The sphere spreads around corners.").minSlotLevel(1).castingTime("Action").range(120).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Grease").schoolType(SchoolTypeEnum.CONJURATION).description("Slick grease covers the ground in a 10-foot square centered on a point within range. The area becomes difficult terrain.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Hail of Thorns").schoolType(SchoolTypeEnum.CONJURATION).description("The next time you hit a creature with a ranged weapon attack before the spell ends, thorns sprout from the ammunition, dealing 1d10 piercing damage.").minSlotLevel(1).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(slotScaling(1, "d10", 1)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Unseen Servant").schoolType(SchoolTypeEnum.CONJURATION).description("This spell creates an invisible, mindless, shapeless force that performs simple tasks at your command until the spell ends.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Tenser's Floating Disk").schoolType(SchoolTypeEnum.CONJURATION).description("This spell creates a circular, horizontal plane of force, 3 feet in diameter and 1 inch thick, that floats 3 feet above the ground in an unoccupied space of your choice.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Inflict Wounds").schoolType(SchoolTypeEnum.NECROMANCY).description("Make a melee spell attack against a creature you can reach. On hit, the target takes 3d10 necrotic damage.").minSlotLevel(1).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(slotScaling(3, "d10", 1)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Ray of Sickness").schoolType(SchoolTypeEnum.NECROMANCY).description("A ray of sickening greenish energy lashes out toward a creature within range. Make a ranged spell attack. On hit, the target takes 2d8 poison damage and must make a Constitution save or be poisoned.").minSlotLevel(1).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.POISON)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(2, "d8", 1)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("False Life").schoolType(SchoolTypeEnum.NECROMANCY).description("Bolstering yourself with a necromantic facsimile of life, you gain 1d4 + 4 temporary hit points for the duration.").minSlotLevel(1).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).valueAtSlotLevel(Map.of(2, "10 temp HP", 3, "15 temp HP", 4, "20 temp HP", 5, "25 temp HP", 6, "30 temp HP", 7, "35 temp HP", 8, "40 temp HP", 9, "45 temp HP")).valueAtSlotLevelDescription("Temp HP increases by 5").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Cause Fear").schoolType(SchoolTypeEnum.NECROMANCY).description("You awaken the sense of mortality in one creature you can see within range.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Dissonant Whispers").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You whisper a discordant melody that only one creature of your choice within range can hear, wracking it with terrible pain. The target takes 3d6 psychic damage.").minSlotLevel(1).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.WIS).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(3, "d6", 1)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Animal Friendship").schoolType(SchoolTypeEnum.ENCHANTMENT).description("This spell lets you convince a beast that you mean it no harm.").minSlotLevel(1).castingTime("Action").range(30).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Bane").schoolType(SchoolTypeEnum.ENCHANTMENT).description("Up to three creatures of your choice must make Charisma saving throws. A target that fails subtracts 1d4 from all attack rolls and saving throws.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Bless").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You bless up to three creatures of your choice. Whenever a target makes an attack roll or a saving throw, it can roll a d4 and add it to the total.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Charm Person").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to charm a humanoid you can see within range.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Command").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You speak a one-word command to a creature you can see within range.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Round").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Compelled Duel").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to compel a creature into a duel.").minSlotLevel(1).castingTime("Bonus Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Hex").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You place a curse on a creature you can see within range. Until the spell ends, you deal an extra 1d6 necrotic damage to the target whenever you hit it.").minSlotLevel(1).castingTime("Bonus Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Sleep").schoolType(SchoolTypeEnum.ENCHANTMENT).description("This spell sends creatures into a magical slumber. Roll 5d8; the total is how many hit points of creatures this spell can affect.").minSlotLevel(1).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(5, "d8", 1)).valueAtSlotLevelDescription("HP affected increases by 2d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Tasha's Hideous Laughter").schoolType(SchoolTypeEnum.ENCHANTMENT).description("A creature of your choice that you can see within range falls into fits of laughter, falling prone and becoming incapacitated.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-
-                // ABJURATION
-                SpellEntity.builder().name("Absorb Elements").schoolType(SchoolTypeEnum.ABJURATION).description("The spell captures some of the incoming energy, lessening its effect on you and storing it for your next melee attack. You have resistance to the triggering damage type until the start of your next turn.").minSlotLevel(1).castingTime("Reaction").range(0).duration("1 Round").spellType(SpellTypeEnum.UTILITY).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(1, "d6", 1)).valueAtSlotLevelDescription("Extra damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Alarm").schoolType(SchoolTypeEnum.ABJURATION).description("You set a ward that alerts you when a creature enters the warded area.").minSlotLevel(1).castingTime("1 Minute").range(30).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Armor of Agathys").schoolType(SchoolTypeEnum.ABJURATION).description("A protective magical force surrounds you, manifesting as a spectral frost that covers you and your gear. You gain 5 temporary hit points for the duration.").minSlotLevel(1).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).damageTypes(Set.of(DamageTypeEnum.COLD)).valueAtSlotLevel(Map.of(2, "10 temp HP", 3, "15 temp HP", 4, "20 temp HP", 5, "25 temp HP", 6, "30 temp HP", 7, "35 temp HP", 8, "40 temp HP", 9, "45 temp HP")).valueAtSlotLevelDescription("Temp HP and damage increase by 5").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Mage Armor").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a willing creature who isn't wearing armor, and a protective magical force surrounds it. The target's base AC becomes 13 + its Dexterity modifier.").minSlotLevel(1).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Protection from Evil and Good").schoolType(SchoolTypeEnum.ABJURATION).description("Until the spell ends, one willing creature you touch is protected against aberrations, celestials, elementals, fey, fiends, and undead.").minSlotLevel(1).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Sanctuary").schoolType(SchoolTypeEnum.ABJURATION).description("You ward a creature within range against attack. Until the spell ends, any creature who targets the warded creature must make a Wisdom save.").minSlotLevel(1).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Shield").schoolType(SchoolTypeEnum.ABJURATION).description("An invisible barrier of magical force appears and protects you. Until the start of your next turn, you have a +5 bonus to AC, including against the triggering attack.").minSlotLevel(1).castingTime("Reaction").range(0).duration("1 Round").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Shield of Faith").schoolType(SchoolTypeEnum.ABJURATION).description("A shimmering field appears and surrounds a creature of your choice within range, granting it a +2 bonus to AC.").minSlotLevel(1).castingTime("Bonus Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Comprehend Languages").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you understand the literal meaning of any spoken language that you hear.").minSlotLevel(1).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Detect Evil and Good").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you know if there is an aberration, celestial, elemental, fey, fiend, or undead within 30 feet of you.").minSlotLevel(1).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Detect Magic").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you sense the presence of magic within 30 feet of you.").minSlotLevel(1).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Detect Poison and Disease").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you can sense the presence and location of poisons, poisonous creatures, and diseases.").minSlotLevel(1).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Hunter's Mark").schoolType(SchoolTypeEnum.DIVINATION).description("You choose a creature you can see within range and mystically mark it as your quarry. You deal an extra 1d6 damage to the target whenever you hit it.").minSlotLevel(1).castingTime("Bonus Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Identify").schoolType(SchoolTypeEnum.DIVINATION).description("You choose one object that you must touch throughout the casting of the spell. You learn its properties and how to use them.").minSlotLevel(1).castingTime("1 Minute").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Speak with Animals").schoolType(SchoolTypeEnum.DIVINATION).description("You gain the ability to comprehend and verbally communicate with beasts for the duration.").minSlotLevel(1).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Color Spray").schoolType(SchoolTypeEnum.ILLUSION).description("A dazzling array of flashing, colored light springs from your hand, potentially blinding creatures.").minSlotLevel(1).castingTime("Action").range(15).duration("1 Round").spellType(SpellTypeEnum.UTILITY).diceType(DiceTypeEnum.D10).build(),
-                SpellEntity.builder().name("Disguise Self").schoolType(SchoolTypeEnum.ILLUSION).description("You make yourself, including your clothing, armor, weapons, and other belongings, look different.").minSlotLevel(1).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Illusory Script").schoolType(SchoolTypeEnum.ILLUSION).description("You write on parchment, paper, or some other suitable writing material and imbue it with a potent illusion.").minSlotLevel(1).castingTime("1 Minute").range(0).duration("10 Days").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Silent Image").schoolType(SchoolTypeEnum.ILLUSION).description("You create the image of an object, a creature, or some other visible phenomenon. The image appears at a spot within range.").minSlotLevel(1).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build()
-        );
-    }
-
-    // ==================== LEVEL 2 SPELLS ====================
-
-    private List<SpellEntity> createLevel2Spells() {
-        return List.of(
-                // EVOCATION
-                SpellEntity.builder().name("Acid Arrow").schoolType(SchoolTypeEnum.EVOCATION).description("A shimmering green arrow streaks toward a target within range and bursts in a spray of acid. Make a ranged spell attack, dealing 4d4 acid damage on hit, and 2d4 at the end of its next turn.").minSlotLevel(2).castingTime("Action").range(90).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.ACID)).diceType(DiceTypeEnum.D4).valueAtSlotLevel(slotScaling(4, "d4", 2)).valueAtSlotLevelDescription("Damage increases by 1d4").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Aganazzar's Scorcher").schoolType(SchoolTypeEnum.EVOCATION).description("A line of roaring flame 30 feet long and 5 feet wide emanates from you in a direction you choose. Each creature in the line must make a Dexterity saving throw, taking 3d8 fire damage on a failed save.").minSlotLevel(2).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 2)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Scorching Ray").schoolType(SchoolTypeEnum.EVOCATION).description("You create three rays of fire and hurl them at targets within range. You can hurl them at one target or several. Make a ranged spell attack for each ray, dealing 2d6 fire damage on hit.").minSlotLevel(2).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(Map.of(3, "4 rays", 4, "5 rays", 5, "6 rays", 6, "7 rays", 7, "8 rays", 8, "9 rays", 9, "10 rays")).valueAtSlotLevelDescription("One additional ray").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Shatter").schoolType(SchoolTypeEnum.EVOCATION).description("A sudden loud ringing noise, painfully intense, erupts from a point of your choice within range. Each creature in a 10-foot-radius sphere must make a Constitution saving throw, taking 3d8 thunder damage on a failed save.").minSlotLevel(2).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.THUNDER)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 2)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Snilloc's Snowball Swarm").schoolType(SchoolTypeEnum.EVOCATION).description("A flurry of magic snowballs erupts from a point you choose within range. Each creature in a 5-foot-radius sphere must make a Dexterity saving throw, taking 3d6 cold damage on a failed save.").minSlotLevel(2).castingTime("Action").range(90).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(3, "d6", 2)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Spiritual Weapon").schoolType(SchoolTypeEnum.EVOCATION).description("You create a floating, spectral weapon within range that lasts for the duration. When you cast the spell, you can make a melee spell attack, dealing 1d8 + spellcasting modifier force damage.").minSlotLevel(2).castingTime("Bonus Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(4, "2d8", 6, "3d8", 8, "4d8")).valueAtSlotLevelDescription("Damage increases by 1d8 every 2 levels").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Continual Flame").schoolType(SchoolTypeEnum.EVOCATION).description("A flame, equivalent in brightness to a torch, springs forth from an object that you touch. The flame can be covered or hidden, but not smothered or quenched.").minSlotLevel(2).castingTime("Action").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Darkness").schoolType(SchoolTypeEnum.EVOCATION).description("Magical darkness spreads from a point you choose within range to fill a 15-foot-radius sphere. Creatures with darkvision can't see through this darkness.").minSlotLevel(2).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Flame Blade").schoolType(SchoolTypeEnum.EVOCATION).description("You evoke a fiery blade in your free hand. You can use your action to make a melee spell attack, dealing 3d6 fire damage on a hit.").minSlotLevel(2).castingTime("Bonus Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(Map.of(4, "4d6", 6, "5d6", 8, "6d6")).valueAtSlotLevelDescription("Damage increases by 1d6 every 2 levels").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Gust of Wind").schoolType(SchoolTypeEnum.EVOCATION).description("A line of strong wind 60 feet long and 10 feet wide blasts from you in a direction you choose.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Moonbeam").schoolType(SchoolTypeEnum.EVOCATION).description("A silvery beam of pale light shines down in a 5-foot-radius, 40-foot-high cylinder centered on a point within range. A creature takes 2d10 radiant damage when it enters the area.").minSlotLevel(2).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D10).valueAtSlotLevel(slotScaling(2, "d10", 2)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Branding Smite").schoolType(SchoolTypeEnum.EVOCATION).description("The next time you hit a creature with a weapon attack before this spell ends, the weapon gleams with astral radiance, dealing an extra 2d6 radiant damage.").minSlotLevel(2).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(2, "d6", 2)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Warding Wind").schoolType(SchoolTypeEnum.EVOCATION).description("A strong wind (20 miles per hour) blows around you in a 10-foot radius and moves with you, making the area difficult terrain.").minSlotLevel(2).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Prayer of Healing").schoolType(SchoolTypeEnum.EVOCATION).description("Up to six creatures of your choice that you can see within range each regain hit points equal to 2d8 + your spellcasting ability modifier.").minSlotLevel(2).castingTime("10 Minutes").range(30).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(2, "d8", 2)).valueAtSlotLevelDescription("Healing increases by 1d8").slotIncreaseType("slot level").build(),
-
-                // ABJURATION
-                SpellEntity.builder().name("Aid").schoolType(SchoolTypeEnum.ABJURATION).description("Your spell bolsters your allies with toughness and resolve. Choose up to three creatures within range. Each target's hit point maximum and current hit points increase by 5.").minSlotLevel(2).castingTime("Action").range(30).duration("8 Hours").spellType(SpellTypeEnum.HEAL).valueAtSlotLevel(Map.of(3, "10 HP", 4, "15 HP", 5, "20 HP", 6, "25 HP", 7, "30 HP", 8, "35 HP", 9, "40 HP")).valueAtSlotLevelDescription("HP increase by 5").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Lesser Restoration").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a creature and can end either one disease or one condition afflicting it.").minSlotLevel(2).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Arcane Lock").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a closed door, window, gate, chest, or other entryway, and it becomes locked for the duration.").minSlotLevel(2).castingTime("Action").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Pass Without Trace").schoolType(SchoolTypeEnum.ABJURATION).description("A veil of shadows and silence radiates from you, masking you and your companions from detection. For the duration, each creature gains +10 to Stealth checks.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Protection from Poison").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a creature. If it is poisoned, you neutralize the poison. For the duration, the target has advantage on saving throws against being poisoned.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Warding Bond").schoolType(SchoolTypeEnum.ABJURATION).description("This spell wards a willing creature you touch and creates a mystic connection between you. While the target is within 60 feet, it gains +1 to AC and saving throws.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Cloud of Daggers").schoolType(SchoolTypeEnum.CONJURATION).description("You fill the air with spinning daggers in a cube 5 feet on each side, centered on a point you choose within range. A creature takes 4d4 slashing damage when it enters the spell's area.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.SLASHING)).diceType(DiceTypeEnum.D4).valueAtSlotLevel(slotScaling(4, "d4", 2)).valueAtSlotLevelDescription("Damage increases by 2d4").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Dust Devil").schoolType(SchoolTypeEnum.CONJURATION).description("Choose an unoccupied 5-foot cube of air that you can see within range. An elemental force that resembles a dust devil appears in the cube.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(1, "d8", 2)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Find Steed").schoolType(SchoolTypeEnum.CONJURATION).description("You summon a spirit that assumes the form of an unusually intelligent, strong, and loyal steed, creating a lasting bond.").minSlotLevel(2).castingTime("10 Minutes").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Flaming Sphere").schoolType(SchoolTypeEnum.CONJURATION).description("A 5-foot-diameter sphere of fire appears in an unoccupied space of your choice. Any creature that ends its turn within 5 feet must make a Dexterity save, taking 2d6 fire damage.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(2, "d6", 2)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Misty Step").schoolType(SchoolTypeEnum.CONJURATION).description("Briefly surrounded by silvery mist, you teleport up to 30 feet to an unoccupied space that you can see.").minSlotLevel(2).castingTime("Bonus Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Web").schoolType(SchoolTypeEnum.CONJURATION).description("You conjure a mass of thick, sticky webbing at a point of your choice within range. Each creature that starts its turn in the webs or enters them must make a Dexterity saving throw.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Augury").schoolType(SchoolTypeEnum.DIVINATION).description("By casting gem-inlaid sticks, rolling dragon bones, laying out ornate cards, you receive an omen from an otherworldly entity.").minSlotLevel(2).castingTime("1 Minute").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Beast Sense").schoolType(SchoolTypeEnum.DIVINATION).description("You touch a willing beast. For the duration of the spell, you can use your action to see through the beast's eyes and hear what it hears.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Detect Thoughts").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you can read the thoughts of certain creatures. When you cast the spell and as your action on each turn, you can focus your mind.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Find Traps").schoolType(SchoolTypeEnum.DIVINATION).description("You sense the presence of any trap within range that is within line of sight.").minSlotLevel(2).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Locate Animals or Plants").schoolType(SchoolTypeEnum.DIVINATION).description("Describe or name a specific kind of beast or plant. You sense the direction to the closest creature or plant of that kind within 5 miles.").minSlotLevel(2).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Locate Object").schoolType(SchoolTypeEnum.DIVINATION).description("Describe or name an object that is familiar to you. You sense the direction to the object's location within 1,000 feet.").minSlotLevel(2).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Mind Spike").schoolType(SchoolTypeEnum.DIVINATION).description("You reach into the mind of one creature you can see within range. The target must make a Wisdom saving throw, taking 3d8 psychic damage on a failed save.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 2)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("See Invisibility").schoolType(SchoolTypeEnum.DIVINATION).description("For the duration, you see invisible creatures and objects as if they were visible, and you can see into the Ethereal Plane.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Animal Messenger").schoolType(SchoolTypeEnum.ENCHANTMENT).description("By means of this spell, you use an animal to deliver a message.").minSlotLevel(2).castingTime("Action").range(30).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Calm Emotions").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to suppress strong emotions in a group of people. Each humanoid in a 20-foot-radius sphere must make a Charisma saving throw.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Crown of Madness").schoolType(SchoolTypeEnum.ENCHANTMENT).description("One humanoid of your choice that you can see within range must succeed on a Wisdom saving throw or become charmed by you.").minSlotLevel(2).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Enthrall").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You weave a distracting string of words, causing creatures of your choice to make a Wisdom saving throw.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Hold Person").schoolType(SchoolTypeEnum.ENCHANTMENT).description("Choose a humanoid that you can see within range. The target must succeed on a Wisdom saving throw or be paralyzed.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Suggestion").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You suggest a course of activity and magically influence a creature you can see within range that can hear and understand you.").minSlotLevel(2).castingTime("Action").range(30).duration("8 Hours").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Zone of Truth").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You create a magical zone that guards against deception in a 15-foot-radius sphere centered on a point of your choice within range.").minSlotLevel(2).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Blur").schoolType(SchoolTypeEnum.ILLUSION).description("Your body becomes blurred, shifting and wavering to all who can see you. For the duration, any creature has disadvantage on attack rolls against you.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Invisibility").schoolType(SchoolTypeEnum.ILLUSION).description("A creature you touch becomes invisible until the spell ends. The spell ends if the target attacks or casts a spell.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Magic Mouth").schoolType(SchoolTypeEnum.ILLUSION).description("You implant a message within an object in range. When triggered, a magical mouth appears and speaks the message.").minSlotLevel(2).castingTime("1 Minute").range(30).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Mirror Image").schoolType(SchoolTypeEnum.ILLUSION).description("Three illusory duplicates of yourself appear in your space. Each time a creature targets you with an attack, roll to see if the attack hits a duplicate instead.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Nystul's Magic Aura").schoolType(SchoolTypeEnum.ILLUSION).description("You place an illusion on a creature or an object you touch so that divination spells reveal false information about it.").minSlotLevel(2).castingTime("Action").range(0).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Phantasmal Force").schoolType(SchoolTypeEnum.ILLUSION).description("You craft an illusion that takes root in the mind of a creature that you can see within range.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.INT).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Shadow Blade").schoolType(SchoolTypeEnum.ILLUSION).description("You weave together threads of shadow to create a sword of solidified gloom in your hand. It counts as a simple melee weapon with finesse, dealing 2d8 psychic damage.").minSlotLevel(2).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(3, "3d8", 5, "4d8", 7, "5d8")).valueAtSlotLevelDescription("Damage increases by 1d8 every 2 levels").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Silence").schoolType(SchoolTypeEnum.ILLUSION).description("For the duration, no sound can be created within or pass through a 20-foot-radius sphere centered on a point you choose within range.").minSlotLevel(2).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Blindness/Deafness").schoolType(SchoolTypeEnum.NECROMANCY).description("You can blind or deafen a foe. Choose one creature that you can see within range to make a Constitution saving throw.").minSlotLevel(2).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Gentle Repose").schoolType(SchoolTypeEnum.NECROMANCY).description("You touch a corpse or other remains. For the duration, the target is protected from decay and can't become undead.").minSlotLevel(2).castingTime("Action").range(0).duration("10 Days").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Ray of Enfeeblement").schoolType(SchoolTypeEnum.NECROMANCY).description("A black beam of enervating energy springs from your finger toward a creature within range. Make a ranged spell attack. On hit, the target deals only half damage with weapon attacks that use Strength.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).attackType(AttackTypeEnum.RANGED).save(AbilityTypeEnum.CON).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Alter Self").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You assume a different form. When you cast the spell, choose one of three options: Aquatic Adaptation, Change Appearance, or Natural Weapons.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Barkskin").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a willing creature. Until the spell ends, the target's skin has a rough, bark-like appearance, and its AC can't be less than 16.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Cordon of Arrows").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You plant four pieces of nonmagical ammunition in the ground within range. When a creature other than you comes within 30 feet, one arrow flies up to strike it.").minSlotLevel(2).castingTime("Action").range(5).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.DEX).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Darkvision").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a willing creature to grant it the ability to see in the dark. For the duration, the creature has darkvision out to 60 feet.").minSlotLevel(2).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Dragon's Breath").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch one willing creature and imbue it with the power to spew magical energy from its mouth, dealing 3d6 damage of the chosen type.").minSlotLevel(2).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(3, "d6", 2)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Earthbind").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose one creature you can see within range. Yellow strips of magical energy loop around the creature, reducing its flying speed to 0.").minSlotLevel(2).castingTime("Action").range(300).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Enhance Ability").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a creature and bestow upon it a magical enhancement. Choose one of six abilities to enhance.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Enlarge/Reduce").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You cause a creature or an object you can see within range to grow larger or smaller for the duration.").minSlotLevel(2).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Heat Metal").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose a manufactured metal object, such as a metal weapon or a suit of heavy or medium metal armor. You cause the object to glow red-hot, dealing 2d8 fire damage.").minSlotLevel(2).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(2, "d8", 2)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Knock").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose an object that you can see within range. The object can be a door, a box, a chest, a set of manacles, a padlock, or another object containing a mundane mechanism.").minSlotLevel(2).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Levitate").schoolType(SchoolTypeEnum.TRANSMUTATION).description("One creature or object of your choice that you can see within range rises vertically, up to 20 feet, and remains suspended there.").minSlotLevel(2).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Magic Weapon").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a nonmagical weapon. Until the spell ends, that weapon becomes a magic weapon with a +1 bonus to attack rolls and damage rolls.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Maximilian's Earthen Grasp").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You choose a 5-foot-square unoccupied space on the ground that you can see within range. A Medium hand made from compacted soil rises there.").minSlotLevel(2).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Pyrotechnics").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose an area of nonmagical flame that you can see and that fits within a 5-foot cube within range. You can extinguish the fire and create either fireworks or smoke.").minSlotLevel(2).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Rope Trick").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a length of rope that is up to 60 feet long. One end of the rope then rises into the air until the whole rope hangs perpendicular to the ground.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Skywrite").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You cause up to ten words to form in a part of the sky you can see. The words appear to be made of cloud and remain in place for the duration.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Spider Climb").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, one willing creature you touch gains the ability to move up, down, and across vertical surfaces and upside down along ceilings.").minSlotLevel(2).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Spike Growth").schoolType(SchoolTypeEnum.TRANSMUTATION).description("The ground in a 20-foot radius centered on a point within range becomes difficult terrain. A creature that moves through the area takes 2d4 piercing damage for every 5 feet.").minSlotLevel(2).castingTime("Action").range(150).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D4).build()
-        );
-    }
-
-    // ==================== LEVEL 3 SPELLS ====================
-
-    private List<SpellEntity> createLevel3Spells() {
-        return List.of(
-                // EVOCATION - Attack spells with slot scaling
-                SpellEntity.builder().name("Fireball").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("A bright streak flashes from your pointing finger to a point you choose within range and then blossoms with a low roar into an explosion of flame. Each creature in a 20-foot-radius sphere must make a Dexterity saving throw, taking 8d6 fire damage on a failed save.")
-                        .minSlotLevel(3).castingTime("Action").range(150).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED)
-                        .damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6)
-                        .save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(8, "d6", 3)).build(),
-                SpellEntity.builder().name("Lightning Bolt").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("A stroke of lightning forming a line 100 feet long and 5 feet wide blasts out from you in a direction you choose. Each creature in the line must make a Dexterity saving throw, taking 8d6 lightning damage on a failed save.")
-                        .minSlotLevel(3).castingTime("Action").range(100).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF)
-                        .damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D6)
-                        .save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(8, "d6", 3)).build(),
-                SpellEntity.builder().name("Call Lightning").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("A storm cloud appears in the shape of a cylinder that is 10 feet tall with a 60-foot radius. You can use your action to call down lightning, dealing 3d10 lightning damage.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.CONCENTRATION).diceType(DiceTypeEnum.D10)
-                        .damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).save(AbilityTypeEnum.DEX)
-                        .valueAtSlotLevel(slotScaling(3, "d10", 3)).build(),
-                SpellEntity.builder().name("Daylight").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("A 60-foot-radius sphere of light spreads out from a point you choose within range. The sphere is bright light and sheds dim light for an additional 60 feet.")
-                        .minSlotLevel(3).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Aura of Vitality").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("Healing energy radiates from you in an aura with a 30-foot radius. You can use a bonus action to cause one creature in the aura to regain 2d6 hit points.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Blinding Smite").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("The next time you hit a creature with a melee weapon attack during this spell's duration, your weapon flares with bright light, dealing an extra 3d8 radiant damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D8).build(),
-                SpellEntity.builder().name("Crusader's Mantle").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("Holy power radiates from you in an aura with a 30-foot radius, awakening boldness in friendly creatures.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Leomund's Tiny Hut").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("A 10-foot-radius immobile dome of force springs into existence around and above you and remains stationary for the duration.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Melf's Minute Meteors").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("You create six tiny meteors in your space. They float in the air and orbit you for the spell's duration. You can expend one or two meteors to send them streaking toward a point, dealing 2d6 fire damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6)
-                        .valueAtSlotLevel(Map.of(4, "8 meteors", 5, "10 meteors", 6, "12 meteors", 7, "14 meteors", 8, "16 meteors", 9, "18 meteors")).build(),
-                SpellEntity.builder().name("Sending").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("You send a short message of twenty-five words or less to a creature with which you are familiar.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Spirit Guardians").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You call forth spirits to protect you. They flit around you to a distance of 15 feet. A creature that enters the area or starts its turn there takes 3d8 radiant or necrotic damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.WIS).valueAtSlotLevel(slotScaling(3, "d8", 3)).build(),
-                SpellEntity.builder().name("Wall of Sand").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("You conjure up a wall of swirling sand on the ground at a point you can see within range. The wall is up to 30 feet long, 10 feet high, and 10 feet thick.")
-                        .minSlotLevel(3).castingTime("Action").range(90).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Wall of Water").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("You conjure up a wall of water on the ground at a point you can see within range. The wall is up to 30 feet long, 10 feet high, and 1 foot thick.")
-                        .minSlotLevel(3).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Wind Wall").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("A wall of strong wind rises from the ground at a point you choose within range. The wall is up to 50 feet long, 15 feet high, and 1 foot thick.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Mass Healing Word").schoolType(SchoolTypeEnum.EVOCATION)
-                        .description("As you call out words of restoration, up to six creatures of your choice that you can see within range regain hit points equal to 1d4 + your spellcasting ability modifier.")
-                        .minSlotLevel(3).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.HEAL)
-                        .diceType(DiceTypeEnum.D4).valueAtSlotLevel(slotScaling(1, "d4", 3)).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Conjure Barrage").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You throw a nonmagical weapon or fire a piece of nonmagical ammunition into the air to create a cone of identical weapons that shoot forward. Each creature in a 60-foot cone must succeed on a Dexterity saving throw, taking 3d8 damage on a failed save.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.SELF)
-                        .damageTypes(Set.of(DamageTypeEnum.SLASHING)).diceType(DiceTypeEnum.D8)
-                        .save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Conjure Animals").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You summon fey spirits that take the form of beasts and appear in unoccupied spaces that you can see within range.")
-                        .minSlotLevel(3).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Create Food and Water").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You create 45 pounds of food and 30 gallons of water on the ground or in containers within range.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Hunger of Hadar").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You open a gateway to the dark between the stars, a region infested with unknown horrors. A 20-foot-radius sphere of blackness and bitter cold appears.")
-                        .minSlotLevel(3).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Sleet Storm").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("Until the spell ends, freezing rain and sleet fall in a 20-foot-tall cylinder with a 40-foot radius centered on a point you choose within range.")
-                        .minSlotLevel(3).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Stinking Cloud").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You create a 20-foot-radius sphere of yellow, nauseating gas centered on a point within range.")
-                        .minSlotLevel(3).castingTime("Action").range(90).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Summon Fey").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You call forth a fey spirit. It manifests in an unoccupied space that you can see within range.")
-                        .minSlotLevel(3).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Summon Shadowspawn").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You call forth a shadowy spirit. It manifests in an unoccupied space that you can see within range.")
-                        .minSlotLevel(3).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Tidal Wave").schoolType(SchoolTypeEnum.CONJURATION)
-                        .description("You conjure up a wave of water that crashes down on an area within range. The area can be up to 30 feet long, up to 10 feet wide, and up to 10 feet tall. Each creature in that area must make a Dexterity saving throw, taking 4d8 bludgeoning damage on a failed save.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED)
-                        .damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D8)
-                        .save(AbilityTypeEnum.DEX).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Animate Dead").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("This spell creates an undead servant. Choose a pile of bones or a corpse of a Medium or Small humanoid within range.")
-                        .minSlotLevel(3).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Bestow Curse").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You touch a creature, and that creature must succeed on a Wisdom saving throw or become cursed.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Feign Death").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You touch a willing creature and put it into a cataleptic state that is indistinguishable from death.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Revivify").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You touch a creature that has died within the last minute. That creature returns to life with 1 hit point.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Speak with Dead").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You grant the semblance of life and intelligence to a corpse of your choice within range, allowing it to answer the questions you pose.")
-                        .minSlotLevel(3).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Spirit Shroud").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You call forth spirits of the dead, which flit around you for the spell's duration. Your attacks deal extra 1d8 radiant, necrotic, or cold damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .diceType(DiceTypeEnum.D8).valueAtSlotLevel(Map.of(5, "2d8", 7, "3d8", 9, "4d8")).build(),
-                SpellEntity.builder().name("Summon Undead").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("You call forth an undead spirit. It manifests in an unoccupied space that you can see within range.")
-                        .minSlotLevel(3).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Vampiric Touch").schoolType(SchoolTypeEnum.NECROMANCY)
-                        .description("The touch of your shadow-wreathed hand can siphon life force from others to heal your wounds. Make a melee spell attack, dealing 3d6 necrotic damage on a hit.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.NECROTIC))
-                        .diceType(DiceTypeEnum.D6).valueAtSlotLevel(slotScaling(3, "d6", 3)).build(),
-
-                // ABJURATION
-                SpellEntity.builder().name("Beacon of Hope").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("This spell bestows hope and vitality. Choose any number of creatures within range. For the duration, each target has advantage on Wisdom saving throws and death saving throws.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Counterspell").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("You attempt to interrupt a creature in the process of casting a spell. If the creature is casting a spell of 3rd level or lower, its spell fails.")
-                        .minSlotLevel(3).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Dispel Magic").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("Choose one creature, object, or magical effect within range. Any spell of 3rd level or lower on the target ends.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Glyph of Warding").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("When you cast this spell, you inscribe a glyph that harms other creatures, either on a surface or within an object.")
-                        .minSlotLevel(3).castingTime("60 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Magic Circle").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("You create a 10-foot-radius, 20-foot-tall cylinder of magical energy centered on a point on the ground that you can see within range.")
-                        .minSlotLevel(3).castingTime("Action").range(10).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Nondetection").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("For the duration, you hide a target that you touch from divination magic.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Protection from Energy").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("For the duration, the willing creature you touch has resistance to one damage type of your choice: acid, cold, fire, lightning, or thunder.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Remove Curse").schoolType(SchoolTypeEnum.ABJURATION)
-                        .description("At your touch, all curses affecting one creature or object end.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Blink").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("Roll a d20 at the end of each of your turns. On a roll of 11 or higher, you vanish from your current plane of existence and appear in the Ethereal Plane.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Elemental Weapon").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("A nonmagical weapon you touch becomes a magic weapon. Choose one of acid, cold, fire, lightning, or thunder. It gains a +1 bonus and deals an extra 1d4 damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Erupting Earth").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("Choose a point you can see on the ground within range. A fountain of churned earth and stone erupts in a 20-foot cube centered on that point. Each creature in that area must make a Dexterity saving throw, taking 3d12 bludgeoning damage on a failed save.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous")
-                        .spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.RANGED)
-                        .damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D12)
-                        .save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(3, "d12", 3)).build(),
-                SpellEntity.builder().name("Flame Arrows").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You touch a quiver containing arrows or bolts. When a target is hit by a ranged weapon attack using a piece of ammunition from the quiver, it takes an extra 1d6 fire damage.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION)
-                        .damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).build(),
-                SpellEntity.builder().name("Fly").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You touch a willing creature. The target gains a flying speed of 60 feet for the duration.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Gaseous Form").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You transform a willing creature you touch, along with everything it's wearing and carrying, into a misty cloud.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Haste").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("Choose a willing creature that you can see within range. Its speed is doubled, it gains a +2 bonus to AC, and it gains an additional action each turn.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Meld into Stone").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You step into a stone object or surface large enough to fully contain your body, melding yourself and all the equipment you carry with the stone.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Plant Growth").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("This spell channels vitality into plants within a specific area. If you cast this spell over 1 action, plants within 100 feet of a point you choose become thick and overgrown.")
-                        .minSlotLevel(3).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Slow").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You alter time around up to six creatures of your choice in a 40-foot cube within range. Each target must succeed on a Wisdom saving throw or be affected.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Speak with Plants").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("You imbue plants within 30 feet of you with limited sentience and animation, giving them the ability to communicate with you.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Water Breathing").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("This spell grants up to ten willing creatures you can see within range the ability to breathe underwater until the spell ends.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Water Walk").schoolType(SchoolTypeEnum.TRANSMUTATION)
-                        .description("This spell grants the ability to move across any liquid surface—such as water, acid, mud, snow, quicksand, or lava—as if it were harmless solid ground.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Enemies Abound").schoolType(SchoolTypeEnum.ENCHANTMENT)
-                        .description("You reach into the mind of one creature you can see and force it to make an Intelligence saving throw.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.INT).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Fear").schoolType(SchoolTypeEnum.ILLUSION)
-                        .description("You project a phantasmal image of a creature's worst fears. Each creature in a 30-foot cone must succeed on a Wisdom saving throw or drop whatever it is holding and become frightened.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Hypnotic Pattern").schoolType(SchoolTypeEnum.ILLUSION)
-                        .description("You create a twisting pattern of colors that weaves through the air inside a 30-foot cube within range. Creatures must make a Wisdom save or become charmed.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION)
-                        .save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Major Image").schoolType(SchoolTypeEnum.ILLUSION)
-                        .description("You create the image of an object, a creature, or some other visible phenomenon that is no larger than a 20-foot cube.")
-                        .minSlotLevel(3).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Phantom Steed").schoolType(SchoolTypeEnum.ILLUSION)
-                        .description("A Large quasi-real, horselike creature appears on the ground in an unoccupied space of your choice within range.")
-                        .minSlotLevel(3).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Clairvoyance").schoolType(SchoolTypeEnum.DIVINATION)
-                        .description("You create an invisible sensor within range in a location familiar to you or in an obvious location within 1 mile.")
-                        .minSlotLevel(3).castingTime("10 Minutes").range(1).duration("Instantaneous").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Tongues").schoolType(SchoolTypeEnum.DIVINATION)
-                        .description("This spell grants the creature you touch the ability to understand any spoken language it hears.")
-                        .minSlotLevel(3).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build()
-        );
-    }
-
-    // ==================== LEVEL 4 SPELLS ====================
-
-    private List<SpellEntity> createLevel4Spells() {
-        return List.of(
-                // ABJURATION
-                SpellEntity.builder().name("Banishment").schoolType(SchoolTypeEnum.ABJURATION).description("You attempt to send one creature that you can see within range to another plane of existence. The target must succeed on a Charisma saving throw or be banished.").minSlotLevel(4).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Death Ward").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a creature and grant it a measure of protection from death. The first time the target would drop to 0 hit points as a result of taking damage, the target instead drops to 1 hit point.").minSlotLevel(4).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Freedom of Movement").schoolType(SchoolTypeEnum.ABJURATION).description("You touch a willing creature. For the duration, the target's movement is unaffected by difficult terrain, and spells and other magical effects can neither reduce the target's speed nor cause the target to be paralyzed or restrained.").minSlotLevel(4).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Mordenkainen's Private Sanctum").schoolType(SchoolTypeEnum.ABJURATION).description("You make an area within range magically secure. The area is a cube that can be as small as 5 feet to as large as 100 feet on each side.").minSlotLevel(4).castingTime("10 Minutes").range(120).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Stoneskin").schoolType(SchoolTypeEnum.ABJURATION).description("This spell turns the flesh of a willing creature you touch as hard as stone. Until the spell ends, the target has resistance to nonmagical bludgeoning, piercing, and slashing damage.").minSlotLevel(4).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Conjure Minor Elementals").schoolType(SchoolTypeEnum.CONJURATION).description("You summon elementals that appear in unoccupied spaces that you can see within range. You choose one of the following options for what appears.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Conjure Woodland Beings").schoolType(SchoolTypeEnum.CONJURATION).description("You summon fey creatures that appear in unoccupied spaces that you can see within range.").minSlotLevel(4).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Dimension Door").schoolType(SchoolTypeEnum.CONJURATION).description("You teleport yourself from your current location to any other spot within range. You arrive at exactly the spot desired.").minSlotLevel(4).castingTime("Action").range(500).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Evard's Black Tentacles").schoolType(SchoolTypeEnum.CONJURATION).description("Squirming, ebony tentacles fill a 20-foot square on ground that you can see within range. For the duration, these tentacles turn the ground in the area into difficult terrain.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Grasping Vine").schoolType(SchoolTypeEnum.CONJURATION).description("You conjure a vine that sprouts from the ground in an unoccupied space of your choice that you can see within range.").minSlotLevel(4).castingTime("Bonus Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Leomund's Secret Chest").schoolType(SchoolTypeEnum.CONJURATION).description("You hide a chest, and all its contents, on the Ethereal Plane. You must touch the chest and the miniature replica that serves as a material component for the spell.").minSlotLevel(4).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Summon Aberration").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth an aberrant spirit. It manifests in an unoccupied space that you can see within range.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Summon Construct").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth the spirit of a construct. It manifests in an unoccupied space that you can see within range.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Summon Elemental").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth an elemental spirit. It manifests in an unoccupied space that you can see within range.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Watery Sphere").schoolType(SchoolTypeEnum.CONJURATION).description("You conjure up a sphere of water with a 5-foot radius at a point you can see within range. The sphere can hover but no more than 10 feet off the ground.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Arcane Eye").schoolType(SchoolTypeEnum.DIVINATION).description("You create an invisible, magical eye within range that hovers in the air for the duration.").minSlotLevel(4).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Divination").schoolType(SchoolTypeEnum.DIVINATION).description("Your magic and an offering put you in contact with a god or a god's servants. You ask a single question concerning a specific goal, event, or activity to occur within 7 days.").minSlotLevel(4).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Locate Creature").schoolType(SchoolTypeEnum.DIVINATION).description("Describe or name a creature that is familiar to you. You sense the direction to the creature's location, as long as that creature is within 1,000 feet of you.").minSlotLevel(4).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Charm Monster").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to charm a creature you can see within range. It must make a Wisdom saving throw, and it does so with advantage if you or your companions are fighting it.").minSlotLevel(4).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Compulsion").schoolType(SchoolTypeEnum.ENCHANTMENT).description("Creatures of your choice that you can see within range and that can hear you must make a Wisdom saving throw. On a failed save, a target is affected by this spell.").minSlotLevel(4).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Confusion").schoolType(SchoolTypeEnum.ENCHANTMENT).description("This spell assaults and twists creatures' minds, spawning delusions and provoking uncontrolled actions. Each creature in a 10-foot-radius sphere centered on a point you choose within range must succeed on a Wisdom saving throw.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Dominate Beast").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to beguile a beast that you can see within range. It must succeed on a Wisdom saving throw or be charmed by you for the duration.").minSlotLevel(4).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-
-                // EVOCATION
-                SpellEntity.builder().name("Fire Shield").schoolType(SchoolTypeEnum.EVOCATION).description("Thin and wispy flames wreathe your body for the duration, shedding bright light in a 10-foot radius and dim light for an additional 10 feet. You can end the spell early by using an action to dismiss it.").minSlotLevel(4).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.UTILITY).damageTypes(Set.of(DamageTypeEnum.FIRE, DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D8).build(),
-                SpellEntity.builder().name("Guardian of Faith").schoolType(SchoolTypeEnum.EVOCATION).description("A Large spectral guardian appears and hovers for the duration in an unoccupied space of your choice that you can see within range. Any hostile creature that moves to a space within 10 feet of the guardian must succeed on a Dexterity saving throw.").minSlotLevel(4).castingTime("Action").range(30).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).damageTypes(Set.of(DamageTypeEnum.RADIANT)).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Ice Storm").schoolType(SchoolTypeEnum.EVOCATION).description("A hail of rock-hard ice pounds to the ground in a 20-foot-radius, 40-foot-high cylinder centered on a point within range. Each creature in the cylinder must make a Dexterity saving throw, taking 2d8 bludgeoning damage and 4d6 cold damage on a failed save.").minSlotLevel(4).castingTime("Action").range(300).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING, DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(4, "d6 cold", 4)).valueAtSlotLevelDescription("Cold damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Otiluke's Resilient Sphere").schoolType(SchoolTypeEnum.EVOCATION).description("A sphere of shimmering force encloses a creature or object of Large size or smaller within range. An unwilling creature must make a Dexterity saving throw.").minSlotLevel(4).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Sickening Radiance").schoolType(SchoolTypeEnum.EVOCATION).description("Dim, greenish light spreads within a 30-foot-radius sphere centered on a point you choose within range. A creature that enters the spell's area for the first time on a turn must succeed on a Constitution saving throw or take 4d10 radiant damage.").minSlotLevel(4).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Staggering Smite").schoolType(SchoolTypeEnum.EVOCATION).description("The next time you hit a creature with a melee weapon attack during this spell's duration, your weapon pierces both body and mind, and the attack deals an extra 4d6 psychic damage to the target.").minSlotLevel(4).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Storm Sphere").schoolType(SchoolTypeEnum.EVOCATION).description("A 20-foot-radius sphere of whirling air springs into existence, centered on a point you choose within range. Each creature in the sphere when it appears must make a Strength saving throw, taking 2d6 bludgeoning damage on a failed save.").minSlotLevel(4).castingTime("Action").range(150).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING, DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.STR).valueAtSlotLevel(slotScaling(2, "d6", 4)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Vitriolic Sphere").schoolType(SchoolTypeEnum.EVOCATION).description("You point at a location within range, and a glowing 1-foot-diameter ball of emerald acid streaks there and explodes in a 20-foot-radius sphere. Each creature in that area must make a Dexterity saving throw, taking 10d4 acid damage on a failed save.").minSlotLevel(4).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.ACID)).diceType(DiceTypeEnum.D4).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(10, "d4", 4)).valueAtSlotLevelDescription("Damage increases by 2d4").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Wall of Fire").schoolType(SchoolTypeEnum.EVOCATION).description("You create a wall of fire on a solid surface within range. You can make the wall up to 60 feet long, 20 feet high, and 1 foot thick, or a ringed wall up to 20 feet in diameter.").minSlotLevel(4).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(5, "d8", 4)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Greater Invisibility").schoolType(SchoolTypeEnum.ILLUSION).description("You or a creature you touch becomes invisible until the spell ends. Anything the target is wearing or carrying is invisible as long as it is on the target's person.").minSlotLevel(4).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Hallucinatory Terrain").schoolType(SchoolTypeEnum.ILLUSION).description("You make natural terrain in a 150-foot cube in range look, sound, and smell like some other sort of natural terrain.").minSlotLevel(4).castingTime("10 Minutes").range(300).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Phantasmal Killer").schoolType(SchoolTypeEnum.ILLUSION).description("You tap into the nightmares of a creature you can see within range and create an illusory manifestation of its deepest fears. The target must make a Wisdom saving throw. On a failed save, the target takes 4d10 psychic damage.").minSlotLevel(4).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.WIS).valueAtSlotLevel(slotScaling(4, "d10", 4)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Blight").schoolType(SchoolTypeEnum.NECROMANCY).description("Necromantic energy washes over a creature of your choice that you can see within range, draining moisture and vitality from it. The target must make a Constitution saving throw, taking 8d8 necrotic damage on a failed save.").minSlotLevel(4).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(8, "d8", 4)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Shadow of Moil").schoolType(SchoolTypeEnum.NECROMANCY).description("Flame-like shadows wreathe your body until the spell ends, causing you to become heavily obscured to others. The shadows turn dim light within 10 feet of you into darkness.").minSlotLevel(4).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Control Water").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, you control any freestanding water inside an area you choose that is a cube up to 100 feet on a side.").minSlotLevel(4).castingTime("Action").range(300).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Elemental Bane").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose one creature you can see within range, and choose one of the following damage types: acid, cold, fire, lightning, or thunder. The target must succeed on a Constitution saving throw or be affected.").minSlotLevel(4).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Fabricate").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You convert raw materials into products of the same material. For example, you can fabricate a wooden bridge from a clump of trees.").minSlotLevel(4).castingTime("10 Minutes").range(120).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Giant Insect").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You transform up to ten centipedes, three spiders, five wasps, or one scorpion within range into giant versions of their natural forms.").minSlotLevel(4).castingTime("Action").range(30).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Polymorph").schoolType(SchoolTypeEnum.TRANSMUTATION).description("This spell transforms a creature that you can see within range into a new form. An unwilling creature must make a Wisdom saving throw to avoid the effect.").minSlotLevel(4).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Stone Shape").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a stone object of Medium size or smaller or a section of stone no more than 5 feet in any dimension and form it into any shape that suits your purpose.").minSlotLevel(4).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build()
-        );
-    }
-
-    // ==================== LEVEL 5 SPELLS ====================
-
-    private List<SpellEntity> createLevel5Spells() {
-        return List.of(
-                // ABJURATION
-                SpellEntity.builder().name("Antilife Shell").schoolType(SchoolTypeEnum.ABJURATION).description("A shimmering barrier extends out from you in a 10-foot radius and moves with you, remaining centered on you and hedging out creatures other than undead and constructs.").minSlotLevel(5).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Banishing Smite").schoolType(SchoolTypeEnum.ABJURATION).description("The next time you hit a creature with a weapon attack before this spell ends, your weapon crackles with force, and the attack deals an extra 5d10 force damage to the target.").minSlotLevel(5).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D10).build(),
-                SpellEntity.builder().name("Circle of Power").schoolType(SchoolTypeEnum.ABJURATION).description("Divine energy radiates from you, distorting and diffusing magical energy within 30 feet of you. Until the spell ends, the sphere moves with you, centered on you.").minSlotLevel(5).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Dispel Evil and Good").schoolType(SchoolTypeEnum.ABJURATION).description("Shimmering energy surrounds and protects you from fey, undead, and creatures originating from beyond the Material Plane.").minSlotLevel(5).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Greater Restoration").schoolType(SchoolTypeEnum.ABJURATION).description("You imbue a creature you touch with positive energy to undo a debilitating effect. You can reduce the target's exhaustion level by one, or end one of the following effects.").minSlotLevel(5).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Planar Binding").schoolType(SchoolTypeEnum.ABJURATION).description("With this spell, you attempt to bind a celestial, an elemental, a fey, or a fiend to your service.").minSlotLevel(5).castingTime("60 Minutes").range(60).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Cloudkill").schoolType(SchoolTypeEnum.CONJURATION).description("You create a 20-foot-radius sphere of poisonous, yellow-green fog centered on a point you choose within range. A creature that enters the spell's area for the first time on a turn must make a Constitution saving throw, taking 5d8 poison damage on a failed save.").minSlotLevel(5).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.POISON)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(5, "d8", 5)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Conjure Elemental").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth an elemental servant. Choose an area of air, earth, fire, or water that fills a 10-foot cube within range. An elemental of challenge rating 5 or lower appears in an unoccupied space within 10 feet of it.").minSlotLevel(5).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Conjure Volley").schoolType(SchoolTypeEnum.CONJURATION).description("You fire a piece of nonmagical ammunition from a ranged weapon or throw a nonmagical weapon into the air and choose a point within range. Hundreds of duplicates rain down on creatures within a 40-foot-radius, 20-foot-high cylinder.").minSlotLevel(5).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.SLASHING)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Far Step").schoolType(SchoolTypeEnum.CONJURATION).description("You teleport up to 60 feet to an unoccupied space you can see. On each of your turns before the spell ends, you can use a bonus action to teleport in this way again.").minSlotLevel(5).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Infernal Calling").schoolType(SchoolTypeEnum.CONJURATION).description("Uttering a dark incantation, you summon a devil from the Nine Hells. You choose the devil's type, which must be one of challenge rating 6 or lower.").minSlotLevel(5).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Insect Plague").schoolType(SchoolTypeEnum.CONJURATION).description("Swarming, biting locusts fill a 20-foot-radius sphere centered on a point you choose within range. A creature that enters the spell's area for the first time on a turn must make a Constitution saving throw, taking 4d10 piercing damage on a failed save.").minSlotLevel(5).castingTime("Action").range(300).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(4, "d10", 5)).valueAtSlotLevelDescription("Damage increases by 1d10").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Steel Wind Strike").schoolType(SchoolTypeEnum.CONJURATION).description("You flourish the weapon used in the casting and then vanish to strike like the wind. Choose up to five creatures you can see within range. Make a melee spell attack against each target, dealing 6d10 force damage on a hit.").minSlotLevel(5).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D10).build(),
-                SpellEntity.builder().name("Summon Celestial").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth a celestial spirit. It manifests in an angelic form in an unoccupied space that you can see within range.").minSlotLevel(5).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Summon Draconic Spirit").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth a draconic spirit. It manifests in an unoccupied space that you can see within range.").minSlotLevel(5).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Teleportation Circle").schoolType(SchoolTypeEnum.CONJURATION).description("As you cast the spell, you draw a 10-foot-diameter circle on the ground inscribed with sigils that link your location to a permanent teleportation circle of your choice.").minSlotLevel(5).castingTime("1 Minute").range(10).duration("1 Round").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Tree Stride").schoolType(SchoolTypeEnum.CONJURATION).description("You gain the ability to enter a tree and move from inside it to inside another tree of the same kind within 500 feet.").minSlotLevel(5).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Commune").schoolType(SchoolTypeEnum.DIVINATION).description("You contact your deity or a divine proxy and ask up to three questions that can be answered with a yes or no.").minSlotLevel(5).castingTime("1 Minute").range(0).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Commune with Nature").schoolType(SchoolTypeEnum.DIVINATION).description("You briefly become one with nature and gain knowledge of the surrounding territory.").minSlotLevel(5).castingTime("1 Minute").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Contact Other Plane").schoolType(SchoolTypeEnum.DIVINATION).description("You mentally contact a demigod, the spirit of a long-dead sage, or some other mysterious entity from another plane.").minSlotLevel(5).castingTime("1 Minute").range(0).duration("1 Minute").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Legend Lore").schoolType(SchoolTypeEnum.DIVINATION).description("Name or describe a person, place, or object. The spell brings to your mind a brief summary of the significant lore about the thing you named.").minSlotLevel(5).castingTime("10 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Scrying").schoolType(SchoolTypeEnum.DIVINATION).description("You can see and hear a particular creature you choose that is on the same plane of existence as you.").minSlotLevel(5).castingTime("10 Minutes").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Dominate Person").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to beguile a humanoid that you can see within range. It must succeed on a Wisdom saving throw or be charmed by you for the duration.").minSlotLevel(5).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Geas").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You place a magical command on a creature that you can see within range, forcing it to carry out some service or refrain from some action or course of activity as you decide.").minSlotLevel(5).castingTime("Action").range(60).duration("30 Days").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Hold Monster").schoolType(SchoolTypeEnum.ENCHANTMENT).description("Choose a creature that you can see within range. The target must succeed on a Wisdom saving throw or be paralyzed for the duration.").minSlotLevel(5).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Modify Memory").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to reshape another creature's memories. One creature that you can see must make a Wisdom saving throw.").minSlotLevel(5).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Synaptic Static").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You choose a point within range and cause psychic energy to explode there. Each creature in a 20-foot-radius sphere must make an Intelligence saving throw, taking 8d6 psychic damage on a failed save.").minSlotLevel(5).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.INT).valueAtSlotLevel(slotScaling(8, "d6", 5)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-
-                // EVOCATION
-                SpellEntity.builder().name("Bigby's Hand").schoolType(SchoolTypeEnum.EVOCATION).description("You create a Large hand of shimmering, translucent force in an unoccupied space that you can see within range. The hand lasts for the spell's duration, and it moves at your command.").minSlotLevel(5).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(4, "d8", 5)).valueAtSlotLevelDescription("Damage increases by 2d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Cone of Cold").schoolType(SchoolTypeEnum.EVOCATION).description("A blast of cold air erupts from your hands. Each creature in a 60-foot cone must make a Constitution saving throw, taking 8d8 cold damage on a failed save.").minSlotLevel(5).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(8, "d8", 5)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Dawn").schoolType(SchoolTypeEnum.EVOCATION).description("The light of dawn shines down on a location you specify within range. A 30-foot-radius, 40-foot-high cylinder of bright light radiates from that point. Each creature in the cylinder must make a Constitution saving throw, taking 4d10 radiant damage on a failed save.").minSlotLevel(5).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Destructive Wave").schoolType(SchoolTypeEnum.EVOCATION).description("You strike the ground, creating a burst of divine energy that ripples outward from you. Each creature you choose within 30 feet of you must succeed on a Constitution saving throw or take 5d6 thunder damage and 5d6 radiant or necrotic damage.").minSlotLevel(5).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.THUNDER, DamageTypeEnum.RADIANT, DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Flame Strike").schoolType(SchoolTypeEnum.EVOCATION).description("A vertical column of divine fire roars down from the heavens in a location you specify. Each creature in a 10-foot-radius, 40-foot-high cylinder must make a Dexterity saving throw, taking 4d6 fire damage and 4d6 radiant damage on a failed save.").minSlotLevel(5).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FIRE, DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(4, "d6 fire", 5)).valueAtSlotLevelDescription("Fire damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Hallow").schoolType(SchoolTypeEnum.EVOCATION).description("You touch a point and infuse an area around it with holy (or unholy) power. The area can have a radius up to 60 feet.").minSlotLevel(5).castingTime("1440 Minutes").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Holy Weapon").schoolType(SchoolTypeEnum.EVOCATION).description("You imbue a weapon you touch with holy power. Until the spell ends, the weapon emits bright light in a 30-foot radius and deals an extra 2d8 radiant damage to any target it hits.").minSlotLevel(5).castingTime("Bonus Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D8).build(),
-                SpellEntity.builder().name("Immolation").schoolType(SchoolTypeEnum.EVOCATION).description("Flames wreathe one creature you can see within range. The target must make a Dexterity saving throw, taking 8d6 fire damage on a failed save.").minSlotLevel(5).castingTime("Action").range(90).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Maelstrom").schoolType(SchoolTypeEnum.EVOCATION).description("A swirling mass of 5-foot-deep water appears in a 30-foot radius centered on a point you can see within range. A creature that enters the area for the first time on a turn must make a Strength saving throw, taking 6d6 bludgeoning damage on a failed save.").minSlotLevel(5).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Mass Cure Wounds").schoolType(SchoolTypeEnum.EVOCATION).description("A wave of healing energy washes out from a point of your choice within range. Choose up to six creatures in a 30-foot-radius sphere. Each target regains hit points equal to 3d8 + your spellcasting ability modifier.").minSlotLevel(5).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).diceType(DiceTypeEnum.D8).valueAtSlotLevel(slotScaling(3, "d8", 5)).valueAtSlotLevelDescription("Healing increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Wall of Force").schoolType(SchoolTypeEnum.EVOCATION).description("An invisible wall of force springs into existence at a point you choose within range. The wall appears in any orientation you choose, as a horizontal or vertical barrier or at an angle.").minSlotLevel(5).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Wall of Light").schoolType(SchoolTypeEnum.EVOCATION).description("A shimmering wall of bright light appears at a point you choose within range. The wall is up to 60 feet long, 10 feet high, and 5 feet thick. A creature in the area must succeed on a Constitution saving throw, taking 4d8 radiant damage on a failed save.").minSlotLevel(5).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(4, "d8", 5)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Wall of Stone").schoolType(SchoolTypeEnum.EVOCATION).description("A nonmagical wall of solid stone springs into existence at a point you choose within range. The wall is 6 inches thick and is composed of ten 10-foot-by-10-foot panels.").minSlotLevel(5).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Wrath of Nature").schoolType(SchoolTypeEnum.EVOCATION).description("You call out to the spirits of nature to rouse them against your enemies. Choose a point you can see within range. The spirits cause various effects within a 60-foot cube centered on that point.").minSlotLevel(5).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING, DamageTypeEnum.SLASHING)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Creation").schoolType(SchoolTypeEnum.ILLUSION).description("You pull wisps of shadow material from the Shadowfell to create a nonliving object of vegetable matter within range: soft goods, rope, wood, or something similar.").minSlotLevel(5).castingTime("1 Minute").range(30).duration("Special").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Dream").schoolType(SchoolTypeEnum.ILLUSION).description("This spell shapes a creature's dreams. Choose a creature known to you as the target of this spell.").minSlotLevel(5).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Mislead").schoolType(SchoolTypeEnum.ILLUSION).description("You become invisible at the same time that an illusory double of you appears where you are standing.").minSlotLevel(5).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Seeming").schoolType(SchoolTypeEnum.ILLUSION).description("This spell allows you to change the appearance of any number of creatures that you can see within range.").minSlotLevel(5).castingTime("Action").range(30).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Contagion").schoolType(SchoolTypeEnum.NECROMANCY).description("Your touch inflicts disease. Make a melee spell attack against a creature within your reach. On a hit, the target is poisoned.").minSlotLevel(5).castingTime("Action").range(0).duration("7 Days").spellType(SpellTypeEnum.ATTACK).attackType(AttackTypeEnum.MELEE).build(),
-                SpellEntity.builder().name("Danse Macabre").schoolType(SchoolTypeEnum.NECROMANCY).description("Threads of dark power leap from your fingers to pierce up to five Small or Medium corpses you can see within range. Each corpse immediately stands up and becomes undead.").minSlotLevel(5).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Enervation").schoolType(SchoolTypeEnum.NECROMANCY).description("A tendril of inky darkness reaches out from you, touching a creature you can see within range to drain life from it. The target must make a Dexterity saving throw, taking 4d8 necrotic damage on a failed save.").minSlotLevel(5).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(4, "d8", 5)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Negative Energy Flood").schoolType(SchoolTypeEnum.NECROMANCY).description("You send ribbons of negative energy at one creature you can see within range. Unless the target is undead, it must make a Constitution saving throw, taking 5d12 necrotic damage on a failed save.").minSlotLevel(5).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D12).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Raise Dead").schoolType(SchoolTypeEnum.NECROMANCY).description("You return a dead creature you touch to life, provided that it has been dead no longer than 10 days.").minSlotLevel(5).castingTime("60 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Animate Objects").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Objects come to life at your command. Choose up to ten nonmagical objects within range that are not being worn or carried. Medium targets count as two, Large targets count as four, Huge targets count as eight.").minSlotLevel(5).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Awaken").schoolType(SchoolTypeEnum.TRANSMUTATION).description("After spending the casting time tracing magical pathways within a precious gemstone, you touch a Huge or smaller beast or plant. The target must have either no Intelligence score or an Intelligence of 3 or less.").minSlotLevel(5).castingTime("480 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Passwall").schoolType(SchoolTypeEnum.TRANSMUTATION).description("A passage appears at a point of your choice that you can see on a wooden, plaster, or stone surface within range, and lasts for the duration.").minSlotLevel(5).castingTime("Action").range(30).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Reincarnate").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a dead humanoid or a piece of a dead humanoid. Provided that the creature has been dead no longer than 10 days, the spell forms a new adult body for it and then calls the soul to enter that body.").minSlotLevel(5).castingTime("60 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Skill Empowerment").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Your magic deepens a creature's understanding of its own talent. You touch one willing creature and give it expertise in one skill of your choice.").minSlotLevel(5).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Swift Quiver").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You transmute your quiver so it produces an endless supply of nonmagical ammunition. On each of your turns, you can use a bonus action to make two attacks with a weapon that uses ammunition from the quiver.").minSlotLevel(5).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Telekinesis").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You gain the ability to move or manipulate creatures or objects by thought. When you cast the spell, and as your action each round for the duration, you can exert your will on one creature or object that you can see within range.").minSlotLevel(5).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.STR).build(),
-                SpellEntity.builder().name("Transmute Rock").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You choose an area of stone or mud that you can see that fits within a 40-foot cube and is within range, and choose one of the following effects.").minSlotLevel(5).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.DEX).build()
-        );
-    }
-
-    // ==================== LEVEL 6 SPELLS ====================
-
-    private List<SpellEntity> createLevel6Spells() {
-        return List.of(
-                // ABJURATION
-                SpellEntity.builder().name("Forbiddance").schoolType(SchoolTypeEnum.ABJURATION).description("You create a ward against magical travel that protects up to 40,000 square feet of floor space to a height of 30 feet above the floor.").minSlotLevel(6).castingTime("10 Minutes").range(0).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Globe of Invulnerability").schoolType(SchoolTypeEnum.ABJURATION).description("An immobile, faintly shimmering barrier springs into existence in a 10-foot radius around you and remains for the duration. Any spell of 5th level or lower cast from outside the barrier can't affect creatures or objects within it.").minSlotLevel(6).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Guards and Wards").schoolType(SchoolTypeEnum.ABJURATION).description("You create a ward that protects up to 2,500 square feet of floor space. The warded area can be up to 20 feet tall.").minSlotLevel(6).castingTime("10 Minutes").range(0).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Primordial Ward").schoolType(SchoolTypeEnum.ABJURATION).description("You have resistance to acid, cold, fire, lightning, and thunder damage for the spell's duration.").minSlotLevel(6).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Arcane Gate").schoolType(SchoolTypeEnum.CONJURATION).description("You create linked teleportation portals that remain open for the duration. Choose two points on the ground that you can see, one point within 10 feet of you and one point within 500 feet of you.").minSlotLevel(6).castingTime("Action").range(500).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Conjure Fey").schoolType(SchoolTypeEnum.CONJURATION).description("You summon a fey creature of challenge rating 6 or lower, or a fey spirit that takes the form of a beast of challenge rating 6 or lower.").minSlotLevel(6).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Drawmij's Instant Summons").schoolType(SchoolTypeEnum.CONJURATION).description("You touch an object weighing 10 pounds or less whose longest dimension is 6 feet or less. The spell leaves an invisible mark on its surface and invisibly inscribes the name of the item on the sapphire you use as the material component.").minSlotLevel(6).castingTime("1 Minute").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Heroes' Feast").schoolType(SchoolTypeEnum.CONJURATION).description("You bring forth a great feast, including magnificent food and drink. The feast takes 1 hour to consume and disappears at the end of that time.").minSlotLevel(6).castingTime("10 Minutes").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Planar Ally").schoolType(SchoolTypeEnum.CONJURATION).description("You beseech an otherworldly entity for aid. The being must be known to you: a god, a primordial, a demon prince, or some other being of cosmic power.").minSlotLevel(6).castingTime("10 Minutes").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Scatter").schoolType(SchoolTypeEnum.CONJURATION).description("The air quivers around up to five creatures of your choice that you can see within range. An unwilling creature must succeed on a Wisdom saving throw to resist this spell.").minSlotLevel(6).castingTime("Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Summon Fiend").schoolType(SchoolTypeEnum.CONJURATION).description("You call forth a fiendish spirit. It manifests in an unoccupied space that you can see within range.").minSlotLevel(6).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Transport via Plants").schoolType(SchoolTypeEnum.CONJURATION).description("This spell creates a magical link between a Large or larger inanimate plant within range and another plant, at any distance, on the same plane of existence.").minSlotLevel(6).castingTime("Action").range(10).duration("1 Round").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Wall of Thorns").schoolType(SchoolTypeEnum.CONJURATION).description("You create a wall of tough, pliable, tangled brush bristling with needle-sharp thorns. The wall appears within range on a solid surface. A creature that enters the wall must make a Dexterity saving throw, taking 7d8 piercing damage on a failed save.").minSlotLevel(6).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PIERCING)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(7, "d8", 6)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Word of Recall").schoolType(SchoolTypeEnum.CONJURATION).description("You and up to five willing creatures within 5 feet of you instantly teleport to a previously designated sanctuary.").minSlotLevel(6).castingTime("Action").range(5).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // DIVINATION
-                SpellEntity.builder().name("Find the Path").schoolType(SchoolTypeEnum.DIVINATION).description("This spell allows you to find the shortest, most direct physical route to a specific fixed location that you are familiar with on the same plane of existence.").minSlotLevel(6).castingTime("Action").range(0).duration("24 Hours").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("True Seeing").schoolType(SchoolTypeEnum.DIVINATION).description("This spell gives the willing creature you touch the ability to see things as they actually are. For the duration, the creature has truesight, notices secret doors hidden by magic.").minSlotLevel(6).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Mass Suggestion").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You suggest a course of activity and magically influence up to twelve creatures of your choice that you can see within range and that can hear and understand you.").minSlotLevel(6).castingTime("Action").range(60).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Otto's Irresistible Dance").schoolType(SchoolTypeEnum.ENCHANTMENT).description("Choose one creature that you can see within range. The target begins a comic dance in place: shuffling, tapping its feet, and capering for the duration.").minSlotLevel(6).castingTime("Action").range(30).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-
-                // EVOCATION
-                SpellEntity.builder().name("Blade Barrier").schoolType(SchoolTypeEnum.EVOCATION).description("You create a vertical wall of whirling, razor-sharp blades made of magical energy. The wall appears within range and lasts for the duration. A creature takes 6d10 slashing damage when entering the wall's area.").minSlotLevel(6).castingTime("Action").range(90).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.SLASHING)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Chain Lightning").schoolType(SchoolTypeEnum.EVOCATION).description("You create a bolt of lightning that arcs toward a target of your choice that you can see within range. Three bolts then leap from that target to as many as three other targets. Each target must make a Dexterity saving throw, taking 10d8 lightning damage on a failed save.").minSlotLevel(6).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.LIGHTNING)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(10, "d8", 6)).valueAtSlotLevelDescription("Damage increases by 1d8").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Contingency").schoolType(SchoolTypeEnum.EVOCATION).description("Choose a spell of 5th level or lower that you can cast, that has a casting time of 1 action, and that can target you. The contingent spell takes effect immediately after the circumstance is met for the first time.").minSlotLevel(6).castingTime("10 Minutes").range(0).duration("10 Days").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Heal").schoolType(SchoolTypeEnum.EVOCATION).description("Choose a creature that you can see within range. A surge of positive energy washes through the creature, causing it to regain 70 hit points. This spell also ends blindness, deafness, and any diseases affecting the target.").minSlotLevel(6).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).valueAtSlotLevel(Map.of(7, "80 HP", 8, "90 HP", 9, "100 HP")).valueAtSlotLevelDescription("Healing increases by 10 HP").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Otiluke's Freezing Sphere").schoolType(SchoolTypeEnum.EVOCATION).description("A frigid globe of cold energy streaks from your fingertips to a point of your choice within range, where it explodes in a 60-foot-radius sphere. Each creature within the area must make a Constitution saving throw, taking 10d6 cold damage on a failed save.").minSlotLevel(6).castingTime("Action").range(300).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(10, "d6", 6)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Sunbeam").schoolType(SchoolTypeEnum.EVOCATION).description("A beam of brilliant light flashes out from your hand in a 5-foot-wide, 60-foot-long line. Each creature in the line must make a Constitution saving throw, taking 6d8 radiant damage on a failed save.").minSlotLevel(6).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Wall of Ice").schoolType(SchoolTypeEnum.EVOCATION).description("You create a wall of ice on a solid surface within range. You can form it into a hemispherical dome or a sphere. A creature takes 10d6 cold damage if the wall passes through its space.").minSlotLevel(6).castingTime("Action").range(120).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(10, "d6", 6)).valueAtSlotLevelDescription("Damage increases by 2d6").slotIncreaseType("slot level").build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Mental Prison").schoolType(SchoolTypeEnum.ILLUSION).description("You attempt to bind a creature within an illusory cell that only it perceives. One creature you can see within range must make an Intelligence saving throw, taking 5d10 psychic damage on a failed save.").minSlotLevel(6).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.INT).build(),
-                SpellEntity.builder().name("Programmed Illusion").schoolType(SchoolTypeEnum.ILLUSION).description("You create an illusion of an object, a creature, or some other visible phenomenon within range that activates when a specific condition occurs.").minSlotLevel(6).castingTime("Action").range(120).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Circle of Death").schoolType(SchoolTypeEnum.NECROMANCY).description("A sphere of negative energy ripples out in a 60-foot-radius sphere from a point within range. Each creature in that area must make a Constitution saving throw, taking 8d6 necrotic damage on a failed save.").minSlotLevel(6).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).valueAtSlotLevel(slotScaling(8, "d6", 6)).valueAtSlotLevelDescription("Damage increases by 2d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Create Undead").schoolType(SchoolTypeEnum.NECROMANCY).description("You can cast this spell only at night. Choose up to three corpses of Medium or Small humanoids within range. Each corpse becomes a ghoul under your control.").minSlotLevel(6).castingTime("1 Minute").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Eyebite").schoolType(SchoolTypeEnum.NECROMANCY).description("For the spell's duration, your eyes become an inky void imbued with dread power. One creature of your choice within 60 feet of you that you can see must succeed on a Wisdom saving throw.").minSlotLevel(6).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Harm").schoolType(SchoolTypeEnum.NECROMANCY).description("You unleash a virulent disease on a creature that you can see within range. The target must make a Constitution saving throw, taking 14d6 necrotic damage on a failed save.").minSlotLevel(6).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Magic Jar").schoolType(SchoolTypeEnum.NECROMANCY).description("Your body falls into a catatonic state as your soul leaves it and enters the container you used for the spell's material component.").minSlotLevel(6).castingTime("1 Minute").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Soul Cage").schoolType(SchoolTypeEnum.NECROMANCY).description("This spell snatches the soul of a humanoid as it dies and traps it inside the tiny cage you use for the material component.").minSlotLevel(6).castingTime("Action").range(60).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Bones of the Earth").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You cause up to six pillars of stone to burst from places on the ground that you can see within range. A creature in the area where the pillar appears must succeed on a Dexterity saving throw or be pushed to the top of the pillar.").minSlotLevel(6).castingTime("Action").range(120).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Disintegrate").schoolType(SchoolTypeEnum.TRANSMUTATION).description("A thin green ray springs from your pointing finger to a target that you can see within range. The target can be a creature, an object, or a creation of magical force. A creature targeted must make a Dexterity saving throw, taking 10d6 + 40 force damage on a failed save.").minSlotLevel(6).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(10, "d6", 6)).valueAtSlotLevelDescription("Damage increases by 3d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Flesh to Stone").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You attempt to turn one creature that you can see within range into stone. If the target's body is made of flesh, the creature must make a Constitution saving throw.").minSlotLevel(6).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Investiture of Flame").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Flames race across your body, shedding bright light in a 30-foot radius and dim light for an additional 30 feet. The flames don't harm you. You have resistance to cold damage and immunity to fire damage.").minSlotLevel(6).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).build(),
-                SpellEntity.builder().name("Investiture of Ice").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, ice rimes your body. You have resistance to fire damage and immunity to cold damage. You can walk across difficult terrain created by ice or snow without spending extra movement.").minSlotLevel(6).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Investiture of Stone").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, bits of rock spread across your body. You have resistance to bludgeoning, piercing, and slashing damage from nonmagical attacks.").minSlotLevel(6).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).build(),
-                SpellEntity.builder().name("Investiture of Wind").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, wind whirls around you. Ranged weapon attacks against you have disadvantage.").minSlotLevel(6).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Move Earth").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Choose an area of terrain no larger than 40 feet on a side within range. You can reshape dirt, sand, or clay in the area in any manner you choose.").minSlotLevel(6).castingTime("Action").range(120).duration("2 Hours").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Tasha's Otherworldly Guise").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Uttering an incantation, you draw on the magic of the Lower Planes or Upper Planes to transform yourself.").minSlotLevel(6).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Tenser's Transformation").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You endow yourself with endurance and martial prowess fueled by magic. Until the spell ends, you can't cast spells, and you gain several benefits.").minSlotLevel(6).castingTime("Action").range(0).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Wind Walk").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You and up to ten willing creatures you can see within range assume a gaseous form for the duration, appearing as wisps of cloud.").minSlotLevel(6).castingTime("Action").range(30).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build()
-        );
-    }
-
-    // ==================== LEVEL 7 SPELLS ====================
-
-    private List<SpellEntity> createLevel7Spells() {
-        return List.of(
-                // ABJURATION
-                SpellEntity.builder().name("Symbol").schoolType(SchoolTypeEnum.ABJURATION).description("When you cast this spell, you inscribe a harmful glyph either on a surface or within an object that can be closed to conceal the glyph. When triggered, the glyph glows, filling a 60-foot-radius sphere with dim light.").minSlotLevel(7).castingTime("1 Minute").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Conjure Celestial").schoolType(SchoolTypeEnum.CONJURATION).description("You summon a celestial of challenge rating 4 or lower, which appears in an unoccupied space that you can see within range.").minSlotLevel(7).castingTime("Action").range(90).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Dream of the Blue Veil").schoolType(SchoolTypeEnum.CONJURATION).description("You and up to eight willing creatures within range fall unconscious for the spell's duration and experience visions of another world on the Material Plane.").minSlotLevel(7).castingTime("10 Minutes").range(20).duration("6 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Mordenkainen's Magnificent Mansion").schoolType(SchoolTypeEnum.CONJURATION).description("You conjure an extradimensional dwelling in range that lasts for the duration. You choose where its one entrance is located. The entrance shimmers faintly.").minSlotLevel(7).castingTime("Action").range(300).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Plane Shift").schoolType(SchoolTypeEnum.CONJURATION).description("You and up to eight willing creatures who link hands in a circle are transported to a different plane of existence.").minSlotLevel(7).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Teleport").schoolType(SchoolTypeEnum.CONJURATION).description("This spell instantly transports you and up to eight willing creatures of your choice that you can see within range to a destination you select.").minSlotLevel(7).castingTime("Action").range(10).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Power Word Pain").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You speak a word of power that causes waves of intense pain to assail one creature you can see within range. If the target has 100 hit points or fewer, it is subject to crippling pain.").minSlotLevel(7).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // EVOCATION
-                SpellEntity.builder().name("Crown of Stars").schoolType(SchoolTypeEnum.EVOCATION).description("Seven star-like motes of light appear and orbit your head until the spell ends. You can use a bonus action to send one of the motes streaking toward one creature or object within 120 feet, dealing 4d12 radiant damage on a hit.").minSlotLevel(7).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D12).attackType(AttackTypeEnum.RANGED).build(),
-                SpellEntity.builder().name("Delayed Blast Fireball").schoolType(SchoolTypeEnum.EVOCATION).description("A beam of yellow light flashes from your pointing finger, then condenses to linger at a chosen point within range as a glowing bead. Each creature in the area must make a Dexterity saving throw, taking 12d6 fire damage on a failed save.").minSlotLevel(7).castingTime("Action").range(150).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).valueAtSlotLevel(slotScaling(12, "d6", 7)).valueAtSlotLevelDescription("Damage increases by 1d6").slotIncreaseType("slot level").build(),
-                SpellEntity.builder().name("Divine Word").schoolType(SchoolTypeEnum.EVOCATION).description("You utter a divine word, imbued with the power that shaped the world at the dawn of creation. Choose any number of creatures you can see within range.").minSlotLevel(7).castingTime("Bonus Action").range(30).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Fire Storm").schoolType(SchoolTypeEnum.EVOCATION).description("A storm made up of sheets of roaring flame appears in a location you choose within range. The area can be up to ten 10-foot cubes. Each creature must make a Dexterity saving throw, taking 7d10 fire damage on a failed save.").minSlotLevel(7).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Forcecage").schoolType(SchoolTypeEnum.EVOCATION).description("An immobile, invisible, cube-shaped prison composed of magical force springs into existence around an area you choose within range. The prison can be a cage or a solid box.").minSlotLevel(7).castingTime("Action").range(100).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.CHA).build(),
-                SpellEntity.builder().name("Mordenkainen's Sword").schoolType(SchoolTypeEnum.EVOCATION).description("You create a sword-shaped plane of force that hovers within range. It lasts for the duration. You can make a melee spell attack against a target, dealing 3d10 force damage on a hit.").minSlotLevel(7).castingTime("Action").range(60).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D10).attackType(AttackTypeEnum.MELEE).build(),
-                SpellEntity.builder().name("Prismatic Spray").schoolType(SchoolTypeEnum.EVOCATION).description("Eight multicolored rays of light flash from your hand. Each ray is a different color and has a different power and purpose. Each creature in a 60-foot cone must make a Dexterity saving throw.").minSlotLevel(7).castingTime("Action").range(0).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.FIRE, DamageTypeEnum.ACID, DamageTypeEnum.LIGHTNING, DamageTypeEnum.POISON, DamageTypeEnum.COLD)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Whirlwind").schoolType(SchoolTypeEnum.EVOCATION).description("A whirlwind howls down to a point that you can see on the ground within range. The whirlwind is a 10-foot-radius, 30-foot-high cylinder. Each creature that enters the whirlwind must make a Dexterity saving throw, taking 10d6 bludgeoning damage on a failed save.").minSlotLevel(7).castingTime("Action").range(300).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Mirage Arcane").schoolType(SchoolTypeEnum.ILLUSION).description("You make terrain in an area up to 1 mile square look, sound, smell, and even feel like some other sort of terrain.").minSlotLevel(7).castingTime("10 Minutes").range(0).duration("10 Days").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Project Image").schoolType(SchoolTypeEnum.ILLUSION).description("You create an illusory copy of yourself that lasts for the duration. The copy can appear at any location within range that you have seen before.").minSlotLevel(7).castingTime("Action").range(500).duration("24 Hours").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Simulacrum").schoolType(SchoolTypeEnum.ILLUSION).description("You shape an illusory duplicate of one beast or humanoid that is within range for the entire casting time of the spell.").minSlotLevel(7).castingTime("720 Minutes").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Finger of Death").schoolType(SchoolTypeEnum.NECROMANCY).description("You send negative energy coursing through a creature that you can see within range, causing it searing pain. The target must make a Constitution saving throw, taking 7d8 + 30 necrotic damage on a failed save.").minSlotLevel(7).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Resurrection").schoolType(SchoolTypeEnum.NECROMANCY).description("You touch a dead creature that has been dead for no more than a century, that didn't die of old age, and that isn't undead. If its soul is free and willing, the target returns to life with all its hit points.").minSlotLevel(7).castingTime("60 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.HEAL).build(),
-                SpellEntity.builder().name("Tether Essence").schoolType(SchoolTypeEnum.NECROMANCY).description("Two creatures you can see within range must make a Constitution saving throw, with disadvantage if they are within 30 feet of each other. Either creature can willingly fail the save.").minSlotLevel(7).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Draconic Transformation").schoolType(SchoolTypeEnum.TRANSMUTATION).description("With a roar, you draw on the magic of dragons to transform yourself, taking on draconic features. You gain blindsight, a flying speed, and a breath weapon.").minSlotLevel(7).castingTime("Bonus Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FORCE)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Etherealness").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You step into the border regions of the Ethereal Plane, in the area where it overlaps with your current plane. You remain in the Border Ethereal for the duration.").minSlotLevel(7).castingTime("Action").range(0).duration("8 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Regenerate").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You touch a creature and stimulate its natural healing ability. The target regains 4d8 + 15 hit points. For the duration of the spell, the target regains 1 hit point at the start of each of its turns.").minSlotLevel(7).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.HEAL).diceType(DiceTypeEnum.D8).build(),
-                SpellEntity.builder().name("Reverse Gravity").schoolType(SchoolTypeEnum.TRANSMUTATION).description("This spell reverses gravity in a 50-foot-radius, 100-foot high cylinder centered on a point within range.").minSlotLevel(7).castingTime("Action").range(100).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Sequester").schoolType(SchoolTypeEnum.TRANSMUTATION).description("By means of this spell, a willing creature or an object can be hidden away, safe from detection for the duration.").minSlotLevel(7).castingTime("Action").range(0).duration("Until Dispelled").spellType(SpellTypeEnum.UTILITY).build()
-        );
-    }
-
-    // ==================== LEVEL 8 SPELLS ====================
-
-    private List<SpellEntity> createLevel8Spells() {
-        return List.of(
-                // ABJURATION
-                SpellEntity.builder().name("Antimagic Field").schoolType(SchoolTypeEnum.ABJURATION).description("A 10-foot-radius invisible sphere of antimagic surrounds you. This area is divorced from the magical energy that suffuses the multiverse.").minSlotLevel(8).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Holy Aura").schoolType(SchoolTypeEnum.ABJURATION).description("Divine light washes out from you and coalesces in a soft radiance in a 30-foot radius around you. Creatures of your choice in that radius have advantage on all saving throws.").minSlotLevel(8).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Mind Blank").schoolType(SchoolTypeEnum.ABJURATION).description("Until the spell ends, one willing creature you touch is immune to psychic damage, any effect that would sense its emotions or read its thoughts, divination spells, and the charmed condition.").minSlotLevel(8).castingTime("Action").range(0).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // CONJURATION
-                SpellEntity.builder().name("Demiplane").schoolType(SchoolTypeEnum.CONJURATION).description("You create a shadowy door on a flat solid surface that you can see within range. The door is large enough to allow Medium creatures to pass through unhindered.").minSlotLevel(8).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build(),
-                SpellEntity.builder().name("Incendiary Cloud").schoolType(SchoolTypeEnum.CONJURATION).description("A swirling cloud of smoke shot through with white-hot embers appears in a 20-foot-radius sphere centered on a point within range. A creature takes 10d8 fire damage when entering the area.").minSlotLevel(8).castingTime("Action").range(150).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Maze").schoolType(SchoolTypeEnum.CONJURATION).description("You banish a creature that you can see within range into a labyrinthine demiplane. The target must make an Intelligence check to escape.").minSlotLevel(8).castingTime("Action").range(60).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.INT).build(),
-                SpellEntity.builder().name("Tsunami").schoolType(SchoolTypeEnum.CONJURATION).description("A wall of water springs into existence at a point you choose within range. The wall is up to 300 feet long, 300 feet high, and 50 feet thick. Each creature in the wall must make a Strength saving throw, taking 6d10 bludgeoning damage on a failed save.").minSlotLevel(8).castingTime("Action").range(0).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).diceType(DiceTypeEnum.D10).save(AbilityTypeEnum.STR).build(),
-
-                // ENCHANTMENT
-                SpellEntity.builder().name("Antipathy/Sympathy").schoolType(SchoolTypeEnum.ENCHANTMENT).description("This spell attracts or repels creatures of your choice. You target something within range, either a Huge or smaller object or creature or an area.").minSlotLevel(8).castingTime("60 Minutes").range(60).duration("10 Days").spellType(SpellTypeEnum.UTILITY).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Dominate Monster").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You attempt to beguile a creature that you can see within range. It must succeed on a Wisdom saving throw or be charmed by you for the duration.").minSlotLevel(8).castingTime("Action").range(60).duration("1 Hour").spellType(SpellTypeEnum.CONCENTRATION).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Feeblemind").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You blast the mind of a creature that you can see within range, attempting to shatter its intellect and personality. The target takes 4d6 psychic damage and must make an Intelligence saving throw.").minSlotLevel(8).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.INT).build(),
-                SpellEntity.builder().name("Power Word Stun").schoolType(SchoolTypeEnum.ENCHANTMENT).description("You speak a word of power that can overwhelm the mind of one creature you can see within range, leaving it dumbfounded. If the target has 150 hit points or fewer, it is stunned.").minSlotLevel(8).castingTime("Action").range(60).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // EVOCATION
-                SpellEntity.builder().name("Earthquake").schoolType(SchoolTypeEnum.EVOCATION).description("You create a seismic disturbance at a point on the ground that you can see within range. For the duration, an intense tremor rips through the ground in a 100-foot-radius circle.").minSlotLevel(8).castingTime("Action").range(500).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.BLUDGEONING)).save(AbilityTypeEnum.DEX).build(),
-                SpellEntity.builder().name("Maddening Darkness").schoolType(SchoolTypeEnum.EVOCATION).description("Magical darkness spreads from a point you choose within range to fill a 60-foot-radius sphere. Creatures with darkvision can't see through it. A creature that starts its turn in the area takes 8d8 psychic damage.").minSlotLevel(8).castingTime("Action").range(150).duration("10 Minutes").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.PSYCHIC)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.WIS).build(),
-                SpellEntity.builder().name("Sunburst").schoolType(SchoolTypeEnum.EVOCATION).description("Brilliant sunlight flashes in a 60-foot radius centered on a point you choose within range. Each creature in that light must make a Constitution saving throw, taking 12d6 radiant damage on a failed save.").minSlotLevel(8).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.RADIANT)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Telepathy").schoolType(SchoolTypeEnum.EVOCATION).description("You create a telepathic link between yourself and a willing creature with which you are familiar.").minSlotLevel(8).castingTime("Action").range(0).duration("24 Hours").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // ILLUSION
-                SpellEntity.builder().name("Illusory Dragon").schoolType(SchoolTypeEnum.ILLUSION).description("By gathering threads of shadow material from the Shadowfell, you create a Huge shadowy dragon in an unoccupied space that you can see within range.").minSlotLevel(8).castingTime("Action").range(120).duration("1 Minute").spellType(SpellTypeEnum.CONCENTRATION).damageTypes(Set.of(DamageTypeEnum.FIRE, DamageTypeEnum.COLD, DamageTypeEnum.ACID, DamageTypeEnum.LIGHTNING, DamageTypeEnum.POISON)).diceType(DiceTypeEnum.D6).save(AbilityTypeEnum.INT).build(),
-
-                // NECROMANCY
-                SpellEntity.builder().name("Abi-Dalzim's Horrid Wilting").schoolType(SchoolTypeEnum.NECROMANCY).description("You draw the moisture from every creature in a 30-foot cube centered on a point you choose within range. Each creature must make a Constitution saving throw, taking 12d8 necrotic damage on a failed save.").minSlotLevel(8).castingTime("Action").range(150).duration("Instantaneous").spellType(SpellTypeEnum.ATTACK).damageTypes(Set.of(DamageTypeEnum.NECROTIC)).diceType(DiceTypeEnum.D8).save(AbilityTypeEnum.CON).build(),
-                SpellEntity.builder().name("Clone").schoolType(SchoolTypeEnum.NECROMANCY).description("This spell grows an inert duplicate of a living, Medium creature as a safeguard against death. This clone forms inside a sealed vessel.").minSlotLevel(8).castingTime("60 Minutes").range(0).duration("Instantaneous").spellType(SpellTypeEnum.UTILITY).build(),
-
-                // TRANSMUTATION
-                SpellEntity.builder().name("Animal Shapes").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Your magic turns others into beasts. Choose any number of willing creatures that you can see within range. You transform each target into the form of a Large or smaller beast.").minSlotLevel(8).castingTime("Action").range(30).duration("24 Hours").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Control Weather").schoolType(SchoolTypeEnum.TRANSMUTATION).description("You take control of the weather within 5 miles of you for the duration. You must be outdoors to cast this spell.").minSlotLevel(8).castingTime("10 Minutes").range(0).duration("8 Hours").spellType(SpellTypeEnum.CONCENTRATION).build(),
-                SpellEntity.builder().name("Glibness").schoolType(SchoolTypeEnum.TRANSMUTATION).description("Until the spell ends, when you make a Charisma check, you can replace the number you roll with a 15. Additionally, no matter what you say, magic that would determine if you are telling the truth indicates that you are being truthful.").minSlotLevel(8).castingTime("Action").range(0).duration("1 Hour").spellType(SpellTypeEnum.UTILITY).build()
-        );
-    }
-
-    private List<SpellEntity> createLevel9Spells() {
-        return List.of();
-    }
-
-    // ==================== HELPER METHODS ====================
-
-    /**
-     * Creates cantrip damage scaling at character levels 5, 11, and 17.
-     * Cantrips scale from 1 die to 2 dice at level 5, 3 dice at level 11, 4 dice at level 17.
-     * @param diceType The type of die (e.g., "d6", "d8", "d10")
-     * @return Map of level -> damage string
-     */
-    private Map<Integer, String> cantripScaling(String diceType) {
-        Map<Integer, String> scaling = new HashMap<>();
-        scaling.put(5, "2" + diceType);
-        scaling.put(11, "3" + diceType);
-        scaling.put(17, "4" + diceType);
-        return scaling;
-    }
-
-    /**
-     * Creates slot-level scaling for leveled spells.
-     * @param baseDice The number of dice at the minimum slot level
-     * @param diceType The type of die (e.g., "d6", "d8", "d10")
-     * @param minSlot The minimum spell slot level
-     * @return Map of slot level -> damage string
-     */
-    private Map<Integer, String> slotScaling(int baseDice, String diceType, int minSlot) {
-        Map<Integer, String> scaling = new HashMap<>();
-        for (int slot = minSlot + 1; slot <= 9; slot++) {
-            int diceCount = baseDice + (slot - minSlot);
-            scaling.put(slot, diceCount + diceType);
-        }
-        return scaling;
-    }
-}
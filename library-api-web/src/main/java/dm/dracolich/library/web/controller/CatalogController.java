@@ -0,0 +1,42 @@
+package dm.dracolich.library.web.controller;
+
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.CatalogStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("catalog")
+@Tag(name = "Catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+    private final CatalogSnapshotService service;
+
+    @Operation(summary = "Fetch catalog snapshot stats", description = "Returns document counts and approximate size of the in-memory catalog")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stats fetched successfully",
+                    content = @Content(schema = @Schema(implementation = CatalogStats.class)))
+    })
+    @GetMapping(path = {"/stats"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CatalogStats> fetchStats() {
+        return Mono.justOrEmpty(service.current().stats());
+    }
+
+    @Operation(summary = "Refresh catalog snapshot", description = "Reloads canonical content from the database into memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot refreshed successfully",
+                    content = @Content(schema = @Schema(implementation = CatalogStats.class)))
+    })
+    @PostMapping(path = {"/refresh"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CatalogStats> refresh() {
+        return service.refresh();
+    }
+}
@@ -1,7 +1,9 @@
 package dm.dracolich.library.web.controller;
 
 import dm.dracolich.library.dto.ClassDto;
+import dm.dracolich.library.dto.records.ClassResumedRecord;
 import dm.dracolich.library.web.service.ClassService;
+import dm.dracolich.library.web.service.SparseFieldsets;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,18 +11,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
+import static dm.dracolich.library.web.controller.EncodedResponses.encodedOr;
+
 @RestController
 @RequestMapping("classes")
 @Tag(name = "Classes")
 @RequiredArgsConstructor
 public class ClassController {
     private final ClassService service;
+    private final SparseFieldsets fieldsets;
 
     @Operation(summary = "Fetch all classes", description = "Returns all classes")
     @ApiResponses(value = {
@@ -28,14 +36,21 @@ public class ClassController {
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
     @GetMapping(path = {"/all"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<? extends Page<?>> fetchAllClasses(@RequestParam(defaultValue = "true") boolean includeDetails,
+    public Mono<? extends Slice<?>> fetchAllClasses(@RequestParam(defaultValue = "true") boolean includeDetails,
                                                    @RequestParam(defaultValue = "false") boolean includeCustom,
                                                    @RequestParam int page,
-                                                   @RequestParam int size) {
-        if(includeDetails)
-            return service.fetchAllClassesDetailed(includeCustom, page, size);
+                                                   @RequestParam int size,
+                                                   @RequestParam(defaultValue = "true") boolean withTotal,
+                                                   @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, ClassDto.class);
+            return service.fetchAllClassesDetailed(includeCustom, page, size, withTotal)
+                    .map(slice -> fieldsets.select(slice, selected));
+        }
 
-        return service.fetchAllClasses(includeCustom, page, size);
+        Set<String> selected = fieldsets.parse(fields, ClassResumedRecord.class);
+        return service.fetchAllClasses(includeCustom, page, size, withTotal)
+                .map(slice -> fieldsets.select(slice, selected));
     }
 
     @Operation(summary = "Fetch classes by name", description = "Returns one class by name")
@@ -44,12 +59,20 @@ public class ClassController {
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
     @GetMapping(path = {"/{name}"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<?> fetchClassByName(@PathVariable String name,
-                                                @RequestParam(defaultValue = "true") boolean includeDetails) {
-        if(includeDetails)
-            return service.fetchClassByNameDetailed(name);
+    public Mono<ResponseEntity<?>> fetchClassByName(@PathVariable String name,
+                                                    @RequestParam(defaultValue = "true") boolean includeDetails,
+                                                    @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, ClassDto.class);
+            return encodedOr(selected == null ? service.fetchEncodedClassByName(name, true) : Mono.empty(),
+                    () -> service.fetchClassByNameDetailed(name)
+                            .map(classDto -> fieldsets.select(classDto, selected)));
+        }
 
-        return service.fetchClassByName(name);
+        Set<String> selected = fieldsets.parse(fields, ClassResumedRecord.class);
+        return encodedOr(selected == null ? service.fetchEncodedClassByName(name, false) : Mono.empty(),
+                () -> service.fetchClassByName(name)
+                        .map(classRecord -> fieldsets.select(classRecord, selected)));
     }
 
     @Operation(summary = "Search classes by name", description = "Returns classes that match name")
@@ -58,15 +81,22 @@ public class ClassController {
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
     @GetMapping(path = {"/search"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<? extends Page<?>> searchClassesByName(@RequestParam String name,
+    public Mono<? extends Slice<?>> searchClassesByName(@RequestParam String name,
                                                        @RequestParam(defaultValue = "true") boolean includeDetails,
                                                        @RequestParam(defaultValue = "false") boolean includeCustom,
                                                        @RequestParam int page,
-                                                       @RequestParam int size) {
-        if(includeDetails)
-            return service.searchClassesByNameDetailed(name, includeCustom, page, size);
+                                                       @RequestParam int size,
+                                                       @RequestParam(defaultValue = "true") boolean withTotal,
+                                                       @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, ClassDto.class);
+            return service.searchClassesByNameDetailed(name, includeCustom, page, size, withTotal)
+                    .map(slice -> fieldsets.select(slice, selected));
+        }
 
-        return service.searchClassesByName(name, includeCustom, page, size);
+        Set<String> selected = fieldsets.parse(fields, ClassResumedRecord.class);
+        return service.searchClassesByName(name, includeCustom, page, size, withTotal)
+                .map(slice -> fieldsets.select(slice, selected));
     }
 
     @Operation(summary = "Create custom class", description = "Creates a new custom class")
@@ -0,0 +1,92 @@
+package dm.dracolich.library.web.controller;
+
+import dm.dracolich.library.web.config.StartupOrchestrator;
+import dm.dracolich.library.web.response.BatchLoaderResponse;
+import dm.dracolich.library.web.response.FilterShapeResponse;
+import dm.dracolich.library.web.response.NameFilterResponse;
+import dm.dracolich.library.web.response.StartupResponse;
+import dm.dracolich.library.web.service.SubEntityLoaders;
+import dm.dracolich.library.web.service.catalog.KnownNames;
+import dm.dracolich.library.web.service.diagnostics.SpellFilterShapeRecorder;
+import dm.dracolich.library.web.service.diagnostics.SpellIndexCoverage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+
+@RestController
+@RequestMapping("diagnostics")
+@Tag(name = "Diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+    private final SpellFilterShapeRecorder shapeRecorder;
+    private final SpellIndexCoverage indexCoverage;
+    private final SubEntityLoaders subEntityLoaders;
+    private final KnownNames knownNames;
+    private final StartupOrchestrator startup;
+
+    @Operation(summary = "Fetch spell filter shapes", description = "Returns the spell filter combinations queried against the database since startup and whether an index covers each")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Shapes fetched successfully",
+                    content = @Content(schema = @Schema(implementation = FilterShapeResponse.class)))
+    })
+    @GetMapping(path = {"/spell-filter-shapes"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<FilterShapeResponse>> fetchSpellFilterShapes() {
+        return indexCoverage.coverage()
+                .map(covered -> shapeRecorder.snapshot().entrySet().stream()
+                        .map(entry -> FilterShapeResponse.builder()
+                                .shape(entry.getKey().key())
+                                .requests(entry.getValue())
+                                .covered(covered.test(entry.getKey()))
+                                .build())
+                        .sorted(Comparator.comparingLong(FilterShapeResponse::getRequests).reversed())
+                        .toList());
+    }
+
+    @Operation(summary = "Fetch batch loader stats", description = "Returns batch counts, sizes and wait times of the subclass and subrace batch loaders since startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stats fetched successfully",
+                    content = @Content(schema = @Schema(implementation = BatchLoaderResponse.class)))
+    })
+    @GetMapping(path = {"/batch-loaders"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<BatchLoaderResponse>> fetchBatchLoaders() {
+        return Mono.just(subEntityLoaders.stats());
+    }
+
+    @Operation(summary = "Fetch name filter stats", description = "Returns the known-name set sizes, rejected lookups and false positive rate per collection since startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stats fetched successfully",
+                    content = @Content(schema = @Schema(implementation = NameFilterResponse.class)))
+    })
+    @GetMapping(path = {"/name-filters"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<NameFilterResponse>> fetchNameFilters() {
+        return Mono.just(knownNames.stats());
+    }
+
+    @Operation(summary = "Fetch startup progress", description = "Returns the state of index creation, seeding and cache prefill; answers 503 until the instance accepts traffic, so it can serve as a readiness probe")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Startup finished, the instance is ready",
+                    content = @Content(schema = @Schema(implementation = StartupResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Startup tasks are still running",
+                    content = @Content(schema = @Schema(implementation = StartupResponse.class)))
+    })
+    @GetMapping(path = {"/startup"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<StartupResponse>> fetchStartup() {
+        StartupResponse progress = startup.progress();
+        return Mono.just(ResponseEntity.status(progress.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(progress));
+    }
+}
@@ -0,0 +1,22 @@
+package dm.dracolich.library.web.controller;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Writes pre-encoded JSON when the service has it, and only otherwise builds the response body.
+ * Returned as {@link ResponseEntity} so the codec is picked from the body's runtime type.
+ */
+final class EncodedResponses {
+
+    private EncodedResponses() {
+    }
+
+    static Mono<ResponseEntity<?>> encodedOr(Mono<DataBuffer> encoded, Supplier<Mono<?>> fallback) {
+        return encoded.<ResponseEntity<?>>map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.defer(() -> fallback.get().map(ResponseEntity::ok)));
+    }
+}
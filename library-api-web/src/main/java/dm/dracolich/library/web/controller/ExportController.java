@@ -0,0 +1,46 @@
+package dm.dracolich.library.web.controller;
+
+import dm.dracolich.library.web.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("export")
+@Tag(name = "Export")
+@RequiredArgsConstructor
+public class ExportController {
+    private final ExportService service;
+
+    @Operation(summary = "Export the library", description = "Streams every collection as gzip-compressed NDJSON, or only custom documents changed after since")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    })
+    @GetMapping
+    public ResponseEntity<Flux<DataBuffer>> exportLibrary(@RequestParam(required = false)
+                                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("dracolich-library.ndjson.gz")
+                        .build()
+                        .toString())
+                .body(service.exportLibrary(since));
+    }
+}
@@ -1,7 +1,9 @@
 package dm.dracolich.library.web.controller;
 
 import dm.dracolich.library.dto.RaceDto;
+import dm.dracolich.library.dto.records.RaceResumedRecord;
 import dm.dracolich.library.web.service.RaceService;
+import dm.dracolich.library.web.service.SparseFieldsets;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,28 +12,41 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
+import static dm.dracolich.library.web.controller.EncodedResponses.encodedOr;
+
 @RestController
 @RequestMapping("races")
 @Tag(name = "Races")
 @RequiredArgsConstructor
 public class RaceController {
     private final RaceService service;
+    private final SparseFieldsets fieldsets;
 
     @Operation(summary = "Fetch all races", description = "Returns all races")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Races fetched successfully",
                     content = @Content(schema = @Schema(implementation = RaceDto.class)))
     })
-    @GetMapping(path = {"/all"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Flux<?> fetchAllRaces(@RequestParam(defaultValue = "true") boolean includeDetails) {
-        if(includeDetails)
-            return service.fetchAllRacesDetailed();
+    @GetMapping(path = {"/all"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<?> fetchAllRaces(@RequestParam(defaultValue = "true") boolean includeDetails,
+                                 @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, RaceDto.class);
+            return service.fetchAllRacesDetailed()
+                    .map(race -> fieldsets.select(race, selected));
+        }
 
-        return service.fetchAllRaces();
+        Set<String> selected = fieldsets.parse(fields, RaceResumedRecord.class);
+        return service.fetchAllRaces()
+                .map(race -> fieldsets.select(race, selected));
     }
 
     @Operation(summary = "Fetch all races", description = "Returns one race by name")
@@ -40,12 +55,20 @@ public class RaceController {
                     content = @Content(schema = @Schema(implementation = RaceDto.class)))
     })
     @GetMapping(path = {"/{name}"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<?> fetchRaceByName(@PathVariable String name,
-                                    @RequestParam(defaultValue = "true") boolean includeDetails) {
-        if(includeDetails)
-            return service.fetchRaceByName(name);
+    public Mono<ResponseEntity<?>> fetchRaceByName(@PathVariable String name,
+                                                   @RequestParam(defaultValue = "true") boolean includeDetails,
+                                                   @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, RaceResumedRecord.class);
+            return encodedOr(selected == null ? service.fetchEncodedRaceByName(name, false) : Mono.empty(),
+                    () -> service.fetchRaceByName(name)
+                            .map(race -> fieldsets.select(race, selected)));
+        }
 
-        return service.fetchRaceDetailed(name);
+        Set<String> selected = fieldsets.parse(fields, RaceDto.class);
+        return encodedOr(selected == null ? service.fetchEncodedRaceByName(name, true) : Mono.empty(),
+                () -> service.fetchRaceDetailed(name)
+                        .map(race -> fieldsets.select(race, selected)));
     }
 
     @Operation(summary = "Search races by name", description = "Returns races that match name")
@@ -53,12 +76,19 @@ public class RaceController {
             @ApiResponse(responseCode = "200", description = "Races fetched successfully",
                     content = @Content(schema = @Schema(implementation = RaceDto.class)))
     })
-    @GetMapping(path = {"/search"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(path = {"/search"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE})
     public Flux<?> searchRacesByName(@RequestParam String name,
-                                       @RequestParam(defaultValue = "true") boolean includeDetails) {
-        if(includeDetails)
-            return service.searchRacesByName(name);
+                                       @RequestParam(defaultValue = "true") boolean includeDetails,
+                                       @RequestParam(required = false) String fields) {
+        if(includeDetails) {
+            Set<String> selected = fieldsets.parse(fields, RaceResumedRecord.class);
+            return service.searchRacesByName(name)
+                    .map(race -> fieldsets.select(race, selected));
+        }
 
-        return service.seachRacesByNameDetailed(name);
+        Set<String> selected = fieldsets.parse(fields, RaceDto.class);
+        return service.seachRacesByNameDetailed(name)
+                .map(race -> fieldsets.select(race, selected));
     }
 }
@@ -5,6 +5,9 @@ import dm.dracolich.library.dto.enums.AbilityTypeEnum;
 import dm.dracolich.library.dto.enums.DamageTypeEnum;
 import dm.dracolich.library.dto.enums.SchoolTypeEnum;
 import dm.dracolich.library.dto.enums.SpellTypeEnum;
+import dm.dracolich.library.web.response.CursorResponse;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
+import dm.dracolich.library.web.service.SparseFieldsets;
 import dm.dracolich.library.web.service.SpellService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,19 +16,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
+import static dm.dracolich.library.web.controller.EncodedResponses.encodedOr;
+
 @RestController
 @RequestMapping("spells")
 @Tag(name = "Spells")
 @RequiredArgsConstructor
 public class SpellController {
     private final SpellService service;
+    private final SparseFieldsets fieldsets;
 
     @Operation(summary = "Fetch spell by Id", description = "Returns all spells by name")
     @ApiResponses(value = {
@@ -33,8 +41,12 @@ public class SpellController {
                     content = @Content(schema = @Schema(implementation = SpellDto.class)))
     })
     @GetMapping(path = {"/{id}"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<SpellDto> fetchSpellById(@PathVariable String id) {
-        return service.fetchSpellById(id);
+    public Mono<ResponseEntity<?>> fetchSpellById(@PathVariable String id,
+                                                  @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return encodedOr(selected == null ? service.fetchEncodedSpellById(id) : Mono.empty(),
+                () -> service.fetchSpellById(id)
+                        .map(spell -> fieldsets.select(spell, selected)));
     }
 
     @Operation(summary = "Search all spells", description = "Returns all spells by filters, type, school or level (0 - cantrip, 1-9 - spell level)")
@@ -43,14 +55,49 @@ public class SpellController {
                     content = @Content(schema = @Schema(implementation = SpellDto.class)))
     })
     @GetMapping(path = {"/filter"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<Page<SpellDto>> fetchSpellsFilter(@RequestParam(required = false) Integer level,
+    public Mono<Slice<?>> fetchSpellsFilter(@RequestParam(required = false) Integer level,
                                       @RequestParam(required = false) SpellTypeEnum type,
                                       @RequestParam(required = false) SchoolTypeEnum school,
                                       @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
                                       @RequestParam(required = false) AbilityTypeEnum save,
                                       @RequestParam int page,
-                                      @RequestParam int size) {
-        return service.fetchSpellsByFilters(level, type, school, damageTypes, save, page, size);
+                                      @RequestParam int size,
+                                      @RequestParam(defaultValue = "true") boolean withTotal,
+                                      @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return service.fetchSpellsByFilters(level, type, school, damageTypes, save, page, size, withTotal, selected)
+                .map(slice -> fieldsets.select(slice, selected));
+    }
+
+    @Operation(summary = "Stream spells by filters", description = "Streams every spell matching the filters, one element at a time as NDJSON or server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Spells streamed successfully",
+                    content = @Content(schema = @Schema(implementation = SpellDto.class)))
+    })
+    @GetMapping(path = {"/filter/stream"}, produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<?> streamSpellsFilter(@RequestParam(required = false) Integer level,
+                                      @RequestParam(required = false) SpellTypeEnum type,
+                                      @RequestParam(required = false) SchoolTypeEnum school,
+                                      @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
+                                      @RequestParam(required = false) AbilityTypeEnum save,
+                                      @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return service.streamSpellsByFilters(level, type, school, damageTypes, save, selected)
+                .map(spell -> fieldsets.select(spell, selected));
+    }
+
+    @Operation(summary = "Count spells per filter value", description = "Returns, for each filter, how many spells every value would match given the other selected filters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facets fetched successfully",
+                    content = @Content(schema = @Schema(implementation = SpellFacetsResponse.class)))
+    })
+    @GetMapping(path = {"/facets"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<SpellFacetsResponse> fetchSpellFacets(@RequestParam(required = false) Integer level,
+                                                      @RequestParam(required = false) SpellTypeEnum type,
+                                                      @RequestParam(required = false) SchoolTypeEnum school,
+                                                      @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
+                                                      @RequestParam(required = false) AbilityTypeEnum save) {
+        return service.fetchSpellFacets(level, type, school, damageTypes, save);
     }
 
     @Operation(summary = "Search all spells by name", description = "Returns spells by search results")
@@ -59,14 +106,57 @@ public class SpellController {
                     content = @Content(schema = @Schema(implementation = SpellDto.class)))
     })
     @GetMapping(path = {"/search"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<Page<SpellDto>> searchSpellsByName(@RequestParam(required = false) String name,
+    public Mono<Slice<?>> searchSpellsByName(@RequestParam(required = false) String name,
                                       @RequestParam(required = false) Integer level,
                                       @RequestParam(required = false) SpellTypeEnum type,
                                       @RequestParam(required = false) SchoolTypeEnum school,
                                       @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
                                       @RequestParam(required = false) AbilityTypeEnum save,
                                       @RequestParam int page,
-                                      @RequestParam int size) {
-        return service.searchSpellsByName(name, level, type, school, damageTypes, save, page, size);
+                                      @RequestParam int size,
+                                      @RequestParam(defaultValue = "true") boolean withTotal,
+                                      @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return service.searchSpellsByName(name, level, type, school, damageTypes, save, page, size, withTotal, selected)
+                .map(slice -> fieldsets.select(slice, selected));
+    }
+
+    @Operation(summary = "Scroll spells by filters", description = "Returns a window of spells ordered by name, continued with the returned cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Spells fetched successfully",
+                    content = @Content(schema = @Schema(implementation = SpellDto.class)))
+    })
+    @GetMapping(path = {"/filter/scroll"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CursorResponse<?>> scrollSpellsFilter(@RequestParam(required = false) Integer level,
+                                      @RequestParam(required = false) SpellTypeEnum type,
+                                      @RequestParam(required = false) SchoolTypeEnum school,
+                                      @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
+                                      @RequestParam(required = false) AbilityTypeEnum save,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam int size,
+                                      @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return service.scrollSpellsByFilters(level, type, school, damageTypes, save, cursor, size, selected)
+                .map(window -> fieldsets.select(window, selected));
+    }
+
+    @Operation(summary = "Scroll spells by name", description = "Returns a window of search results ordered by name, continued with the returned cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Spells fetched successfully",
+                    content = @Content(schema = @Schema(implementation = SpellDto.class)))
+    })
+    @GetMapping(path = {"/search/scroll"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CursorResponse<?>> scrollSpellsByName(@RequestParam(required = false) String name,
+                                      @RequestParam(required = false) Integer level,
+                                      @RequestParam(required = false) SpellTypeEnum type,
+                                      @RequestParam(required = false) SchoolTypeEnum school,
+                                      @RequestParam(required = false) Set<DamageTypeEnum> damageTypes,
+                                      @RequestParam(required = false) AbilityTypeEnum save,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam int size,
+                                      @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SpellDto.class);
+        return service.scrollSpellsByName(name, level, type, school, damageTypes, save, cursor, size, selected)
+                .map(window -> fieldsets.select(window, selected));
     }
 }
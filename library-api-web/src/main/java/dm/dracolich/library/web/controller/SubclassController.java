@@ -4,6 +4,7 @@ import dm.dracolich.library.dto.ClassDto;
 import dm.dracolich.library.dto.SubclassDto;
 import dm.dracolich.library.dto.enums.ClassEnum;
 import dm.dracolich.library.web.service.ClassService;
+import dm.dracolich.library.web.service.SparseFieldsets;
 import dm.dracolich.library.web.service.SubclassService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,12 +18,15 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("subclasses")
 @Tag(name = "Subclasses")
 @RequiredArgsConstructor
 public class SubclassController {
     private final SubclassService service;
+    private final SparseFieldsets fieldsets;
 
     @Operation(summary = "Fetch Subclasses by name", description = "Returns a subclass by name")
     @ApiResponses(value = {
@@ -30,8 +34,11 @@ public class SubclassController {
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
     @GetMapping(path = {"/{name}"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<SubclassDto> fetchSubclassByName(@PathVariable String name) {
-        return service.fetchSubclassByName(name);
+    public Mono<?> fetchSubclassByName(@PathVariable String name,
+                                       @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SubclassDto.class);
+        return service.fetchSubclassByName(name)
+                .map(subclass -> fieldsets.select(subclass, selected));
     }
 
     @Operation(summary = "Search Subclasses by filters", description = "Returns subclasses by search results")
@@ -39,10 +46,14 @@ public class SubclassController {
             @ApiResponse(responseCode = "200", description = "Subclass fetched successfully",
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
-    @GetMapping(path = {"/search"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Flux<SubclassDto> searchSubclassesByName(@RequestParam(required = false) String name,
-                                                    @RequestParam(required = false, name = "class") ClassEnum className) {
-        return service.searchSubclassesByFilter(name, className);
+    @GetMapping(path = {"/search"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<?> searchSubclassesByName(@RequestParam(required = false) String name,
+                                          @RequestParam(required = false, name = "class") ClassEnum className,
+                                          @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SubclassDto.class);
+        return service.searchSubclassesByFilter(name, className)
+                .map(subclass -> fieldsets.select(subclass, selected));
     }
 
 
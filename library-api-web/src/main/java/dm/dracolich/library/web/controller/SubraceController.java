@@ -4,6 +4,7 @@ import dm.dracolich.library.dto.ClassDto;
 import dm.dracolich.library.dto.SubclassDto;
 import dm.dracolich.library.dto.SubraceDto;
 import dm.dracolich.library.dto.enums.ClassEnum;
+import dm.dracolich.library.web.service.SparseFieldsets;
 import dm.dracolich.library.web.service.SubraceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,12 +18,15 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("subraces")
 @Tag(name = "Subraces")
 @RequiredArgsConstructor
 public class SubraceController {
     private final SubraceService service;
+    private final SparseFieldsets fieldsets;
 
     @Operation(summary = "Fetch Subraces by name", description = "Returns a Subrace by name")
     @ApiResponses(value = {
@@ -30,8 +34,11 @@ public class SubraceController {
                     content = @Content(schema = @Schema(implementation = ClassDto.class)))
     })
     @GetMapping(path = {"/{name}"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<SubraceDto> fetchSubracesByName(@PathVariable String name) {
-        return service.fetchSubraceByName(name);
+    public Mono<?> fetchSubracesByName(@PathVariable String name,
+                                       @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SubraceDto.class);
+        return service.fetchSubraceByName(name)
+                .map(subrace -> fieldsets.select(subrace, selected));
     }
 
     @Operation(summary = "Search Subraces by filters", description = "Returns subraces by search results")
@@ -40,8 +47,11 @@ public class SubraceController {
                     content = @Content(schema = @Schema(implementation = SubraceDto.class)))
     })
     @GetMapping(path = {"/search"}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public Flux<SubraceDto> searchSubracesByName(@RequestParam(required = false) String name,
-                                                 @RequestParam(required = false, name = "race") String race) {
-        return service.searchSubracesByFilter(name, race);
+    public Flux<?> searchSubracesByName(@RequestParam(required = false) String name,
+                                        @RequestParam(required = false, name = "race") String race,
+                                        @RequestParam(required = false) String fields) {
+        Set<String> selected = fieldsets.parse(fields, SubraceDto.class);
+        return service.searchSubracesByFilter(name, race)
+                .map(subrace -> fieldsets.select(subrace, selected));
     }
 }
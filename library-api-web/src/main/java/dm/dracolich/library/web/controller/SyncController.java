@@ -0,0 +1,35 @@
+package dm.dracolich.library.web.controller;
+
+import dm.dracolich.library.web.response.SyncEvent;
+import dm.dracolich.library.web.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("sync")
+@Tag(name = "Sync")
+@RequiredArgsConstructor
+public class SyncController {
+    private final SyncService service;
+
+    @Operation(summary = "Stream changes since a catalog version", description = "Streams every document deleted, inserted or updated since the given version, one change at a time as NDJSON or server-sent events, closed by a line with the version to sync from next")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes streamed successfully",
+                    content = @Content(schema = @Schema(implementation = SyncEvent.class)))
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<SyncEvent> fetchChanges(@RequestParam(defaultValue = "0") long since) {
+        return service.fetchChangesSince(since);
+    }
+}
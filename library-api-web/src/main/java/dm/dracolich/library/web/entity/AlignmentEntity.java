@@ -5,16 +5,25 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Document(collection = "alignments")
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class AlignmentEntity {
+public class AlignmentEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String description;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
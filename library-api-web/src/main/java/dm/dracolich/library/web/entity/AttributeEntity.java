@@ -7,8 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Document(collection = "attributes")
@@ -16,10 +18,16 @@ import java.util.Map;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class AttributeEntity {
+public class AttributeEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String description;
     private Map<AbilityTypeEnum, Integer> abilityBonus;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
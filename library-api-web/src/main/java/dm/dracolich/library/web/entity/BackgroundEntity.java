@@ -5,20 +5,29 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Document(collection = "backgrounds")
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class BackgroundEntity {
+public class BackgroundEntity implements CatalogEntity {
     @Id
     private String id;
     @Indexed(unique = true)
     private String name;
+    private String nameKey;
     private String description;
     private String featureId;  // reference to FeatureEntity
     private boolean custom;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
@@ -0,0 +1,16 @@
+package dm.dracolich.library.web.entity;
+
+import java.util.List;
+
+public final class CatalogEntities {
+    /**
+     * Every top-level library collection, in export order.
+     */
+    public static final List<Class<? extends CatalogEntity>> ALL = List.of(
+            ClassEntity.class, SubclassEntity.class, RaceEntity.class, SubraceEntity.class, SpellEntity.class,
+            FeatureEntity.class, EquipmentEntity.class, BackgroundEntity.class, AlignmentEntity.class,
+            AttributeEntity.class);
+
+    private CatalogEntities() {
+    }
+}
@@ -0,0 +1,18 @@
+package dm.dracolich.library.web.entity;
+
+/**
+ * Common shape of the top-level library documents, implemented through the Lombok accessors of each entity.
+ */
+public interface CatalogEntity {
+    String getId();
+    void setId(String id);
+    String getName();
+    String getNameKey();
+    void setNameKey(String nameKey);
+    Long getCreatedVersion();
+    void setCreatedVersion(Long createdVersion);
+    Long getUpdatedVersion();
+    void setUpdatedVersion(Long updatedVersion);
+    String getSeedHash();
+    void setSeedHash(String seedHash);
+}
@@ -8,9 +8,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,11 +22,12 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class ClassEntity {
+public class ClassEntity implements CatalogEntity {
     @Id
     private String id;
     @Indexed(unique = true)
     private String name;
+    private String nameKey;
     private String description;
     private String image;
     private Map<Integer, Set<SkillsEnum>> skillProficiencies; // and how many can be chosen
@@ -40,4 +44,14 @@ public class ClassEntity {
     private Set<StartingEquipmentItemDto> startingEquipmentC;
     private Set<ClassLevelProgressionDto> levelProgression;
     private boolean custom;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
+    /**
+     * Only populated by the {@code $lookup} aggregation read path, never persisted.
+     */
+    @ReadOnlyProperty
+    private Set<SubclassEntity> subclasses;
 }
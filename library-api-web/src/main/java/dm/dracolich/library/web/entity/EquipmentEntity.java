@@ -8,8 +8,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,10 +20,11 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class EquipmentEntity {
+public class EquipmentEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String description;
     private String image;
     private EquipmentCategoryEnum equipmentCategory;
@@ -32,4 +35,9 @@ public class EquipmentEntity {
     private Map<DamageTypeEnum, Integer> damageDisadvantages;
     private Set<AttributeEntity> attributes;
     private Set<String> otherAttributes;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
@@ -5,9 +5,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Document(collection = "features")
@@ -15,11 +17,12 @@ import java.util.Map;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class FeatureEntity {
+public class FeatureEntity implements CatalogEntity {
     @Id
     private String id;
     @Indexed(unique = true)
     private String name;
+    private String nameKey;
     private String description;
     /**
      * Maps class name to the level at which this feature is obtained.
@@ -30,4 +33,9 @@ public class FeatureEntity {
      */
     private Map<String, Integer> classLevels;
     private boolean custom;
-}
\ No newline at end of file
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
+}
@@ -0,0 +1,37 @@
+package dm.dracolich.library.web.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the normalized {@code nameKey} stored next to every entity name: lowercased, accent-folded and
+ * punctuation-stripped, e.g. {@code "Tasha's Hideous Laughter"} becomes {@code "tashas hideous laughter"}.
+ * Lookups normalize their input the same way, so they compare against an ascending index instead of
+ * running a case-insensitive regex.
+ */
+public final class NameKeys {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['’]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private NameKeys() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null)
+            return null;
+
+        String folded = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        String lower = APOSTROPHES.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(lower).replaceAll(" ").strip();
+    }
+
+    /**
+     * Anchored, quoted pattern for the keys starting with {@code nameKey}, which an index on {@code nameKey} answers
+     * as a range scan. Callers skip the search when the key is empty, since the pattern would match every key.
+     */
+    public static String prefixPattern(String nameKey) {
+        return "^" + Pattern.quote(nameKey);
+    }
+}
@@ -7,8 +7,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -18,10 +20,11 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class RaceEntity {
+public class RaceEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String image;
     private SizeEnum size;
     private Integer speed;
@@ -29,4 +32,9 @@ public class RaceEntity {
     private Map<Integer, List<SpellEntity>> cantripsAndSpells;
     private Map<AbilityTypeEnum, Integer> abilityBonus; // ability type and bonus points to be applied
     private boolean custom;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
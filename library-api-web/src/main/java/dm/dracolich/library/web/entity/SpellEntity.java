@@ -6,8 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,10 +18,11 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class SpellEntity {
+public class SpellEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String description;
     private String image;
     private SchoolTypeEnum schoolType;
@@ -39,4 +42,9 @@ public class SpellEntity {
     // valueAtSlotLevel maps level/slot -> damage value
     // Cantrip ex: {5: "2d6", 11: "3d6", 17: "4d6"} - damage at character levels 5, 11, 17
     // Leveled spell ex: {2: "4d6", 3: "5d6", 4: "6d6"} - damage at spell slots 2, 3, 4
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
@@ -6,8 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Set;
 
 @Document(collection = "subclasses")
@@ -15,13 +17,19 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class SubclassEntity {
+public class SubclassEntity implements CatalogEntity {
     @Id
     private String id;
     private String name;
+    private String nameKey;
     private String description;
     private String image;
     private String className;
     private Set<AttributeEntity> subclassAttributes;
     private boolean custom;
+    @LastModifiedDate
+    private Instant updatedAt;
+    private Long createdVersion;
+    private Long updatedVersion;
+    private String seedHash;
 }
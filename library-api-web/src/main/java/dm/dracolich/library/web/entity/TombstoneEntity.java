@@ -0,0 +1,27 @@
+package dm.dracolich.library.web.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Records a deleted library document so delta syncs can report it after the document itself is gone.
+ */
+@Document(collection = "tombstones")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TombstoneEntity {
+    @Id
+    private String id;
+    private String collection;
+    private String documentId;
+    private long version;
+    private Instant deletedAt;
+}
@@ -6,7 +6,7 @@ import dm.dracolich.library.web.entity.ClassEntity;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 
-@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.FIELD)
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.FIELD, uses = {SubclassMapper.class})
 public interface ClassMapper {
     ClassDto entityToDto(ClassEntity entity);
     ClassResumedRecord entityToResumedRecord(ClassEntity entity);
@@ -2,6 +2,8 @@ package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.web.entity.ClassEntity;
 import dm.dracolich.library.web.repository.custom.ClassCustomRepository;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,7 +12,14 @@ import reactor.core.publisher.Mono;
 
 @Repository
 public interface ClassRepository extends ReactiveMongoRepository<ClassEntity, String>, ReactiveQueryByExampleExecutor<ClassEntity>, ClassCustomRepository {
+    String RESUMED_FIELDS = "{ 'name' : 1, 'description' : 1, 'image' : 1, 'hitDice' : 1, 'savingThrows' : 1, 'custom' : 1 }";
+
     Flux<ClassEntity> findAllByCustomIsFalse();
-    Mono<ClassEntity> findByNameIgnoreCase(String name);
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<ClassEntity> findByNameCaseInsensitive(String name);
+    @Query(value = "{ 'name' : ?0 }", fields = RESUMED_FIELDS)
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<ClassEntity> findResumedByNameCaseInsensitive(String name);
     Flux<ClassEntity> findAllByClassNameContainingIgnoreCase(String className);
 }
@@ -2,6 +2,8 @@ package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.dto.enums.EquipmentCategoryEnum;
 import dm.dracolich.library.web.entity.EquipmentEntity;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -10,6 +12,8 @@ import reactor.core.publisher.Mono;
 @Repository
 public interface EquipmentRepository extends ReactiveMongoRepository<EquipmentEntity, String> {
     Mono<EquipmentEntity> findByName(String name);
-    Mono<EquipmentEntity> findByNameIgnoreCase(String name);
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<EquipmentEntity> findByNameCaseInsensitive(String name);
     Flux<EquipmentEntity> findByEquipmentCategory(EquipmentCategoryEnum category);
 }
@@ -0,0 +1,22 @@
+package dm.dracolich.library.web.repository;
+
+import org.springframework.data.mongodb.core.query.Collation;
+
+/**
+ * Case-insensitive collation shared by the {@code name} and parent name indexes and the lookups they back.
+ * Queries only use a collated index when their collation matches it exactly, so both sides read from here.
+ */
+public final class NameCollation {
+    public static final String CASE_INSENSITIVE = "{ 'locale' : 'en', 'strength' : 2 }";
+
+    public static final Collation COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    public static final String INDEX_NAME = "name_ci";
+
+    public static final String CLASS_NAME_INDEX_NAME = "className_ci";
+
+    public static final String RACE_NAME_INDEX_NAME = "raceName_ci";
+
+    private NameCollation() {
+    }
+}
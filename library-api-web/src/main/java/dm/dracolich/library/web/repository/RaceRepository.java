@@ -1,6 +1,8 @@
 package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.web.entity.RaceEntity;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.stereotype.Repository;
@@ -9,6 +11,26 @@ import reactor.core.publisher.Mono;
 
 @Repository
 public interface RaceRepository extends ReactiveMongoRepository<RaceEntity, String>, ReactiveQueryByExampleExecutor<RaceEntity> {
-    Mono<RaceEntity> findByNameIgnoreCase(String name);
-    Flux<RaceEntity> findAllByNameContainingIgnoreCase(String name);
+    // Fields read by RaceMapper.entityToResumedRecord; cantripsAndSpells and raceAttributes are never decoded
+    String RESUMED_FIELDS = "{ 'name' : 1, 'image' : 1, 'speed' : 1, 'size' : 1 }";
+
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<RaceEntity> findByNameCaseInsensitive(String name);
+    Flux<RaceEntity> findAllByNameKeyStartingWith(String nameKey);
+    Flux<RaceEntity> findAllByCustomIsTrue();
+    Flux<RaceEntity> findAllByCustomIsTrueAndNameKeyStartingWith(String nameKey);
+
+    @Query(value = "{ 'name' : ?0 }", fields = RESUMED_FIELDS)
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<RaceEntity> findResumedByNameCaseInsensitive(String name);
+    @Query(value = "{}", fields = RESUMED_FIELDS)
+    Flux<RaceEntity> findAllResumed();
+    @Query(value = "{ 'custom' : true }", fields = RESUMED_FIELDS)
+    Flux<RaceEntity> findAllCustomResumed();
+    // prefixPattern comes from NameKeys.prefixPattern, anchored and quoted
+    @Query(value = "{ 'nameKey' : { '$regex' : ?0 } }", fields = RESUMED_FIELDS)
+    Flux<RaceEntity> findAllResumedByNameKeyMatching(String prefixPattern);
+    @Query(value = "{ 'custom' : true, 'nameKey' : { '$regex' : ?0 } }", fields = RESUMED_FIELDS)
+    Flux<RaceEntity> findAllCustomResumedByNameKeyMatching(String prefixPattern);
 }
\ No newline at end of file
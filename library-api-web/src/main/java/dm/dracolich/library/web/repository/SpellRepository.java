@@ -2,6 +2,8 @@ package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.web.entity.SpellEntity;
 import dm.dracolich.library.web.repository.custom.SpellCustomRepository;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.stereotype.Repository;
@@ -11,6 +13,8 @@ import reactor.core.publisher.Mono;
 @Repository
 public interface SpellRepository extends ReactiveMongoRepository<SpellEntity, String>, ReactiveQueryByExampleExecutor<SpellEntity>, SpellCustomRepository {
     Mono<SpellEntity> findByName(String name);
-    Mono<SpellEntity> findByNameIgnoreCase(String name);
-    Flux<SpellEntity> findByNameContainingIgnoreCase(String name);
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<SpellEntity> findByNameCaseInsensitive(String name);
+    Flux<SpellEntity> findAllByNameKeyStartingWith(String nameKey);
 }
@@ -1,17 +1,25 @@
 package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.web.entity.SubclassEntity;
-import org.springframework.data.domain.Example;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface SubclassRepository extends ReactiveMongoRepository<SubclassEntity, String>, ReactiveQueryByExampleExecutor<SubclassEntity> {
-    Mono<SubclassEntity> findByNameIgnoreCase(String name);
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<SubclassEntity> findByNameCaseInsensitive(String name);
     Flux<SubclassEntity> findAllByClassNameIgnoreCase(String className);
-    Flux<SubclassEntity> findAllByNameContainingIgnoreCase(String name);
-    Flux<SubclassEntity> findAllByNameContainingIgnoreCase(String name, Example<SubclassEntity> example);
+    @Query("{ 'className' : { '$in' : ?0 } }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Flux<SubclassEntity> findAllByClassNameInCaseInsensitive(Collection<String> classNames);
+    Flux<SubclassEntity> findAllByNameKeyStartingWith(String nameKey);
+    Flux<SubclassEntity> findAllByCustomIsTrueAndNameKeyStartingWith(String nameKey);
 }
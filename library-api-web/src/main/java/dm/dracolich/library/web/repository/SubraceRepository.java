@@ -1,15 +1,24 @@
 package dm.dracolich.library.web.repository;
 
 import dm.dracolich.library.web.entity.SubraceEntity;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface SubraceRepository extends ReactiveMongoRepository<SubraceEntity, String>, ReactiveQueryByExampleExecutor<SubraceEntity> {
-    Mono<SubraceEntity> findByNameIgnoreCase(String name);
-    Flux<SubraceEntity> findAllByNameContainingIgnoreCase(String raceName);
+    @Query("{ 'name' : ?0 }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Mono<SubraceEntity> findByNameCaseInsensitive(String name);
+    Flux<SubraceEntity> findAllByNameKeyStartingWith(String nameKey);
     Flux<SubraceEntity> findAllByRaceNameIgnoreCase(String raceName);
+    @Query("{ 'raceName' : { '$in' : ?0 } }")
+    @Collation(NameCollation.CASE_INSENSITIVE)
+    Flux<SubraceEntity> findAllByRaceNameInCaseInsensitive(Collection<String> raceNames);
 }
@@ -1,10 +1,15 @@
 package dm.dracolich.library.web.repository.custom;
 
 import dm.dracolich.library.web.entity.ClassEntity;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import reactor.core.publisher.Mono;
 
 public interface ClassCustomRepository {
-    Mono<Page<ClassEntity>> findAllPaginated(boolean includeCustom, int page, int size);
-    Mono<Page<ClassEntity>> searchByNamePaginated(String name, boolean includeCustom, int page, int size);
+    Mono<Slice<ClassEntity>> findAllPaginated(boolean includeCustom, int page, int size, boolean withTotal);
+    Mono<Slice<ClassEntity>> searchByNamePaginated(String name, boolean includeCustom, int page, int size, boolean withTotal);
+    Mono<Slice<ClassEntity>> findAllResumedPaginated(boolean includeCustom, int page, int size, boolean withTotal);
+    Mono<Slice<ClassEntity>> searchByNameResumedPaginated(String name, boolean includeCustom, int page, int size, boolean withTotal);
+    Mono<ClassEntity> findByNameWithSubclasses(String name);
+    Mono<Slice<ClassEntity>> findAllWithSubclassesPaginated(boolean includeCustom, int page, int size, boolean withTotal);
+    Mono<Slice<ClassEntity>> searchByNameWithSubclassesPaginated(String name, boolean includeCustom, int page, int size, boolean withTotal);
 }
@@ -1,51 +1,110 @@
 package dm.dracolich.library.web.repository.custom;
 
 import dm.dracolich.library.web.entity.ClassEntity;
+import dm.dracolich.library.web.entity.NameKeys;
+import dm.dracolich.library.web.repository.NameCollation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 public class ClassCustomRepositoryImpl implements ClassCustomRepository {
+    // Run under the name collation, so className matches in any casing, as in the batched path, on className_ci
+    private static final List<AggregationOperation> JOIN_SUBCLASSES = List.of(
+            Aggregation.lookup("subclasses", "name", "className", "subclasses"));
+
+    // Fields read by ClassMapper.entityToResumedRecord; levelProgression and the equipment sets are never decoded
+    private static final List<AggregationOperation> PROJECT_RESUMED = List.of(
+            Aggregation.project("name", "description", "image", "hitDice", "savingThrows", "custom"));
+
     private final ReactiveMongoTemplate mongoTemplate;
+    private final FacetPaginator paginator;
+
+    @Override
+    public Mono<Slice<ClassEntity>> findAllPaginated(boolean includeCustom, int page, int size, boolean withTotal) {
+        return paginator.paginate(ClassEntity.class, allCriteria(includeCustom), PageRequest.of(page, size), withTotal);
+    }
+
+    @Override
+    public Mono<Slice<ClassEntity>> searchByNamePaginated(String name, boolean includeCustom, int page, int size, boolean withTotal) {
+        return paginator.paginate(ClassEntity.class, searchCriteria(name, includeCustom), PageRequest.of(page, size), withTotal);
+    }
+
+    @Override
+    public Mono<Slice<ClassEntity>> findAllResumedPaginated(boolean includeCustom, int page, int size, boolean withTotal) {
+        return paginator.paginate(ClassEntity.class, allCriteria(includeCustom), PageRequest.of(page, size), withTotal,
+                PROJECT_RESUMED);
+    }
+
+    @Override
+    public Mono<Slice<ClassEntity>> searchByNameResumedPaginated(String name, boolean includeCustom, int page, int size,
+                                                                 boolean withTotal) {
+        return paginator.paginate(ClassEntity.class, searchCriteria(name, includeCustom), PageRequest.of(page, size), withTotal,
+                PROJECT_RESUMED);
+    }
 
     @Override
-    public Mono<Page<ClassEntity>> findAllPaginated(boolean includeCustom, int page, int size) {
+    public Mono<ClassEntity> findByNameWithSubclasses(String name) {
+        Criteria criteria = Criteria.where("name").is(name);
+
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(criteria));
+        pipeline.add(Aggregation.limit(1));
+        pipeline.addAll(JOIN_SUBCLASSES);
+
+        AggregationOptions options = AggregationOptions.builder().collation(NameCollation.COLLATION).build();
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(ClassEntity.class, pipeline).withOptions(options), ClassEntity.class)
+                .next();
+    }
+
+    @Override
+    public Mono<Slice<ClassEntity>> findAllWithSubclassesPaginated(boolean includeCustom, int page, int size, boolean withTotal) {
+        return paginator.paginate(ClassEntity.class, allCriteria(includeCustom), PageRequest.of(page, size), withTotal,
+                JOIN_SUBCLASSES, NameCollation.COLLATION);
+    }
+
+    @Override
+    public Mono<Slice<ClassEntity>> searchByNameWithSubclassesPaginated(String name, boolean includeCustom, int page, int size,
+                                                                        boolean withTotal) {
+        // The nameKey prefix regex is not collation-aware, so under the collation it reads classes without its index
+        return paginator.paginate(ClassEntity.class, searchCriteria(name, includeCustom), PageRequest.of(page, size), withTotal,
+                JOIN_SUBCLASSES, NameCollation.COLLATION);
+    }
+
+    private Criteria allCriteria(boolean includeCustom) {
         Criteria criteria = new Criteria();
 
         if (!includeCustom)
             criteria.and("custom").is(false);
 
-        Query query = Query.query(criteria);
-        PageRequest pageRequest = PageRequest.of(page, size);
-
-        return mongoTemplate.count(Query.query(criteria), ClassEntity.class)
-                .flatMap(total -> mongoTemplate.find(query.with(pageRequest), ClassEntity.class)
-                        .collectList()
-                        .map(list -> new PageImpl<>(list, pageRequest, total)));
+        return criteria;
     }
 
-    @Override
-    public Mono<Page<ClassEntity>> searchByNamePaginated(String name, boolean includeCustom, int page, int size) {
+    private Criteria searchCriteria(String name, boolean includeCustom) {
         Criteria criteria = new Criteria();
 
-        if (name != null && !name.isBlank())
-            criteria.and("name").regex(name, "i");
+        if (name != null && !name.isBlank()) {
+            String nameKey = NameKeys.normalize(name);
+            // A name normalizing to nothing matches no key, an empty $in keeps the query on the index
+            if (nameKey.isEmpty())
+                criteria.and("nameKey").in(List.of());
+            else
+                criteria.and("nameKey").regex(NameKeys.prefixPattern(nameKey));
+        }
 
         if (!includeCustom)
             criteria.and("custom").is(false);
 
-        Query query = Query.query(criteria);
-        PageRequest pageRequest = PageRequest.of(page, size);
-
-        return mongoTemplate.count(Query.query(criteria), ClassEntity.class)
-                .flatMap(total -> mongoTemplate.find(query.with(pageRequest), ClassEntity.class)
-                        .collectList()
-                        .map(list -> new PageImpl<>(list, pageRequest, total)));
+        return criteria;
     }
 }
@@ -0,0 +1,91 @@
+package dm.dracolich.library.web.repository.custom;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared pagination for the custom repositories.
+ * <p>
+ * With {@code withTotal} the total and the page slice come back from a single {@code $facet} aggregation
+ * and the result is a {@link org.springframework.data.domain.Page}. Without it no count is run at all:
+ * one extra element is fetched to tell whether a next slice exists and the result is a plain {@link Slice}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacetPaginator {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public <T> Mono<Slice<T>> paginate(Class<T> type, Criteria criteria, Pageable pageable, boolean withTotal) {
+        return paginate(type, criteria, pageable, withTotal, List.of());
+    }
+
+    /**
+     * @param pageStages stages applied to the page slice only, after skip/limit (e.g. {@code $lookup})
+     */
+    public <T> Mono<Slice<T>> paginate(Class<T> type, Criteria criteria, Pageable pageable, boolean withTotal,
+                                       List<AggregationOperation> pageStages) {
+        return paginate(type, criteria, pageable, withTotal, pageStages, null);
+    }
+
+    /**
+     * @param collation applies to the whole aggregation, {@code $match} included; {@code null} for the simple one
+     */
+    public <T> Mono<Slice<T>> paginate(Class<T> type, Criteria criteria, Pageable pageable, boolean withTotal,
+                                       List<AggregationOperation> pageStages, Collation collation) {
+        AggregationOptions options = AggregationOptions.builder().collation(collation).build();
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(criteria));
+
+        if (pageable.getSort().isSorted())
+            pipeline.add(Aggregation.sort(pageable.getSort()));
+
+        List<AggregationOperation> slice = new ArrayList<>();
+        slice.add(Aggregation.skip(pageable.getOffset()));
+        slice.add(Aggregation.limit(withTotal ? pageable.getPageSize() : pageable.getPageSize() + 1L));
+        slice.addAll(pageStages);
+
+        if (!withTotal) {
+            pipeline.addAll(slice);
+
+            return mongoTemplate.aggregate(Aggregation.newAggregation(type, pipeline).withOptions(options), type)
+                    .collectList()
+                    .map(list -> {
+                        boolean hasNext = list.size() > pageable.getPageSize();
+                        List<T> content = hasNext ? list.subList(0, pageable.getPageSize()) : list;
+                        return new SliceImpl<>(content, pageable, hasNext);
+                    });
+        }
+
+        pipeline.add(Aggregation.facet(slice.toArray(AggregationOperation[]::new))
+                .as("content")
+                .and(Aggregation.count().as("total"))
+                .as("total"));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(type, pipeline).withOptions(options), Document.class)
+                .next()
+                .map(result -> {
+                    List<T> content = result.getList("content", Document.class).stream()
+                            .map(document -> mongoTemplate.getConverter().read(type, document))
+                            .toList();
+                    List<Document> total = result.getList("total", Document.class);
+                    long totalElements = total.isEmpty() ? 0 : total.getFirst().get("total", Number.class).longValue();
+
+                    return new PageImpl<>(content, pageable, totalElements);
+                });
+    }
+}
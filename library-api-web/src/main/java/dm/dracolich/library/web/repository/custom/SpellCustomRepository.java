@@ -5,13 +5,26 @@ import dm.dracolich.library.dto.enums.DamageTypeEnum;
 import dm.dracolich.library.dto.enums.SchoolTypeEnum;
 import dm.dracolich.library.dto.enums.SpellTypeEnum;
 import dm.dracolich.library.web.entity.SpellEntity;
-import org.springframework.data.domain.Page;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
 public interface SpellCustomRepository {
-    Mono<Page<SpellEntity>> findByFilters(String name, Integer level, SpellTypeEnum type,
-                                          SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
-                                          AbilityTypeEnum save, int page, int size);
+    Mono<Slice<SpellEntity>> findByFilters(String name, Integer level, SpellTypeEnum type,
+                                           SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                           AbilityTypeEnum save, int page, int size, boolean withTotal,
+                                           Set<String> fields);
+    Mono<Window<SpellEntity>> scrollByFilters(String name, Integer level, SpellTypeEnum type,
+                                              SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                              AbilityTypeEnum save, KeysetScrollPosition position, int size,
+                                              Set<String> fields);
+    Flux<SpellEntity> streamByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                      Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, Set<String> fields);
+    Mono<SpellFacetsResponse> countFacets(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                          Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save);
 }
@@ -4,30 +4,144 @@ import dm.dracolich.library.dto.enums.AbilityTypeEnum;
 import dm.dracolich.library.dto.enums.DamageTypeEnum;
 import dm.dracolich.library.dto.enums.SchoolTypeEnum;
 import dm.dracolich.library.dto.enums.SpellTypeEnum;
+import dm.dracolich.library.web.entity.NameKeys;
 import dm.dracolich.library.web.entity.SpellEntity;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.bson.Document;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 public class SpellCustomRepositoryImpl implements SpellCustomRepository {
+    // keyset scrolling appends _id as tiebreaker, matching the (name, _id) indexes in MongoIndexConfig
+    private static final Sort SCROLL_SORT = Sort.by("name");
+    private static final String COUNT = "count";
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final ReactiveMongoTemplate mongoTemplate;
+    private final FacetPaginator paginator;
 
     @Override
-    public Mono<Page<SpellEntity>> findByFilters(String name, Integer level, SpellTypeEnum type,
+    public Mono<Slice<SpellEntity>> findByFilters(String name, Integer level, SpellTypeEnum type,
                                                   SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
-                                                  AbilityTypeEnum save, int page, int size) {
+                                                  AbilityTypeEnum save, int page, int size, boolean withTotal,
+                                                  Set<String> fields) {
+        Criteria criteria = filterCriteria(name, level, type, school, damageTypes, save);
+        List<AggregationOperation> pageStages = fields == null
+                ? List.of()
+                : List.of(Aggregation.project(fields.toArray(String[]::new)));
+
+        return paginator.paginate(SpellEntity.class, criteria, PageRequest.of(page, size), withTotal, pageStages);
+    }
+
+    @Override
+    public Mono<Window<SpellEntity>> scrollByFilters(String name, Integer level, SpellTypeEnum type,
+                                                     SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                                     AbilityTypeEnum save, KeysetScrollPosition position, int size,
+                                                     Set<String> fields) {
+        Query query = Query.query(filterCriteria(name, level, type, school, damageTypes, save))
+                .with(SCROLL_SORT)
+                .with(position)
+                .limit(size);
+
+        // The sort key stays in the projection: the next cursor is read from the last document
+        if (fields != null)
+            query.fields().include(fields.toArray(String[]::new)).include("name");
+
+        return mongoTemplate.scroll(query, SpellEntity.class);
+    }
+
+    /**
+     * Unsorted and unpaged: documents are emitted as the cursor yields them, fetched in batches as demand allows.
+     */
+    @Override
+    public Flux<SpellEntity> streamByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                             Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, Set<String> fields) {
+        Query query = Query.query(filterCriteria(null, level, type, school, damageTypes, save))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+
+        if (fields != null)
+            query.fields().include(fields.toArray(String[]::new));
+
+        return mongoTemplate.find(query, SpellEntity.class);
+    }
+
+    /**
+     * One {@code $facet} aggregation: each facet matches on every filter but its own, then groups by its field.
+     */
+    @Override
+    public Mono<SpellFacetsResponse> countFacets(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                                 Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        FacetOperation facets = Aggregation
+                .facet(Aggregation.match(filterCriteria(null, null, type, school, damageTypes, save)),
+                        Aggregation.group("minSlotLevel").count().as(COUNT))
+                .as("levels")
+                .and(Aggregation.match(filterCriteria(null, level, null, school, damageTypes, save)),
+                        Aggregation.group("spellType").count().as(COUNT))
+                .as("types")
+                .and(Aggregation.match(filterCriteria(null, level, type, null, damageTypes, save)),
+                        Aggregation.group("schoolType").count().as(COUNT))
+                .as("schools")
+                .and(Aggregation.match(filterCriteria(null, level, type, school, damageTypes, save)),
+                        Aggregation.unwind("damageTypes"),
+                        Aggregation.group("damageTypes").count().as(COUNT))
+                .as("damageTypes")
+                .and(Aggregation.match(filterCriteria(null, level, type, school, damageTypes, null)),
+                        Aggregation.group("save").count().as(COUNT))
+                .as("saves");
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(SpellEntity.class, facets), Document.class)
+                .next()
+                .map(result -> SpellFacetsResponse.builder()
+                        .levels(counts(result, "levels", new TreeMap<>(), key -> ((Number) key).intValue()))
+                        .types(counts(result, "types", new EnumMap<>(SpellTypeEnum.class), key -> SpellTypeEnum.valueOf(key.toString())))
+                        .schools(counts(result, "schools", new EnumMap<>(SchoolTypeEnum.class), key -> SchoolTypeEnum.valueOf(key.toString())))
+                        .damageTypes(counts(result, "damageTypes", new EnumMap<>(DamageTypeEnum.class), key -> DamageTypeEnum.valueOf(key.toString())))
+                        .saves(counts(result, "saves", new EnumMap<>(AbilityTypeEnum.class), key -> AbilityTypeEnum.valueOf(key.toString())))
+                        .build());
+    }
+
+    private static <K> Map<K, Long> counts(Document result, String facet, Map<K, Long> counts, Function<Object, K> keyMapper) {
+        for (Document bucket : result.getList(facet, Document.class)) {
+            if (bucket.get("_id") != null)
+                counts.put(keyMapper.apply(bucket.get("_id")), ((Number) bucket.get(COUNT)).longValue());
+        }
+
+        return counts;
+    }
+
+    private Criteria filterCriteria(String name, Integer level, SpellTypeEnum type,
+                                    SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                    AbilityTypeEnum save) {
         Criteria criteria = new Criteria();
 
-        if (name != null && !name.isBlank())
-            criteria.and("name").regex(name, "i");
+        if (name != null && !name.isBlank()) {
+            String nameKey = NameKeys.normalize(name);
+            // A name normalizing to nothing matches no key, an empty $in keeps the query on the index
+            if (nameKey.isEmpty())
+                criteria.and("nameKey").in(List.of());
+            else
+                criteria.and("nameKey").regex(NameKeys.prefixPattern(nameKey));
+        }
 
         if (level != null)
             criteria.and("minSlotLevel").is(level);
@@ -44,12 +158,6 @@ public class SpellCustomRepositoryImpl implements SpellCustomRepository {
         if (save != null)
             criteria.and("save").is(save);
 
-        Query query = Query.query(criteria);
-        PageRequest pageRequest = PageRequest.of(page, size);
-
-        return mongoTemplate.count(Query.query(criteria), SpellEntity.class)
-                .flatMap(total -> mongoTemplate.find(query.with(pageRequest), SpellEntity.class)
-                        .collectList()
-                        .map(list -> new PageImpl<>(list, pageRequest, total)));
+        return criteria;
     }
 }
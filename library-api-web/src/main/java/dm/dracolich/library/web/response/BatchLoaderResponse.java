@@ -0,0 +1,16 @@
+package dm.dracolich.library.web.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BatchLoaderResponse {
+    String name;
+    long batches;
+    long keys; // requests served, one key each
+    double averageBatchSize;
+    long largestBatch;
+    double averageWaitMillis; // first key enqueued to dispatch
+    double longestWaitMillis;
+}
@@ -0,0 +1,15 @@
+package dm.dracolich.library.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CursorResponse<T> {
+    List<T> content;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor; // null on the last window
+}
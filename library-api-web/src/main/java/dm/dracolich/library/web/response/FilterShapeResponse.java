@@ -0,0 +1,12 @@
+package dm.dracolich.library.web.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FilterShapeResponse {
+    String shape;
+    long requests;
+    boolean covered; // some index leads with exactly these fields
+}
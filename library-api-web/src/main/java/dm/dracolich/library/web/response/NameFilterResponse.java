@@ -0,0 +1,18 @@
+package dm.dracolich.library.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NameFilterResponse {
+    String collection;
+    int names;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long builtAtVersion; // null until the first build
+    long rejected; // answered 404 without a query
+    long passed; // known names that were found
+    long falsePositives; // known names that were not found
+    double falsePositiveRate; // falsePositives / (rejected + falsePositives)
+}
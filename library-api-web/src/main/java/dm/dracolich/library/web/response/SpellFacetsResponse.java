@@ -0,0 +1,26 @@
+package dm.dracolich.library.web.response;
+
+import dm.dracolich.library.dto.enums.AbilityTypeEnum;
+import dm.dracolich.library.dto.enums.DamageTypeEnum;
+import dm.dracolich.library.dto.enums.SchoolTypeEnum;
+import dm.dracolich.library.dto.enums.SpellTypeEnum;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Spell counts per filter value. Each facet is counted under every selected filter except its own,
+ * so a count is the number of results the filter would give if that value were picked instead.
+ * Damage types are all-of, so their counts are for adding the value to the current selection.
+ * Values without matches are left out.
+ */
+@Data
+@Builder
+public class SpellFacetsResponse {
+    Map<Integer, Long> levels;
+    Map<SpellTypeEnum, Long> types;
+    Map<SchoolTypeEnum, Long> schools;
+    Map<DamageTypeEnum, Long> damageTypes;
+    Map<AbilityTypeEnum, Long> saves;
+}
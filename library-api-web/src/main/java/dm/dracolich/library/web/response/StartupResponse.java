@@ -0,0 +1,25 @@
+package dm.dracolich.library.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StartupResponse {
+    boolean ready; // the readiness state, accepting traffic
+    long elapsedMillis; // since the application context started
+    List<Task> tasks;
+
+    @Data
+    @Builder
+    public static class Task {
+        String name;
+        String state; // PENDING, RUNNING, DONE or FAILED
+        Long durationMillis; // so far while running
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String error;
+    }
+}
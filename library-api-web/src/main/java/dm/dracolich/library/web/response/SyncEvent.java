@@ -0,0 +1,22 @@
+package dm.dracolich.library.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One line of a sync stream: a change to one document, or the closing {@code VERSION} line.
+ * A stream that ends without the {@code VERSION} line was cut short; sync again from the same {@code since}.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncEvent {
+    Type type;
+    String collection;
+    String id;
+    Object document; // in its usual API shape, as stored for collections without one
+    Long version; // on the VERSION line only: pass back as since on the next sync
+
+    public enum Type { DELETED, INSERTED, UPDATED, VERSION }
+}
@@ -0,0 +1,124 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.response.BatchLoaderResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects keys requested by concurrent callers and resolves them with one query per batch. A batch is dispatched
+ * when it reaches {@code maxBatchSize} keys or {@code maxWait} after its first key, whichever comes first,
+ * and every caller receives the values for its own key.
+ */
+@Slf4j
+final class BatchLoader<K, V> {
+    private final String name;
+    private final Duration maxWait;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Mono<Map<K, List<V>>>> loader;
+
+    private final Object lock = new Object();
+    private List<Pending<K, V>> pending = new ArrayList<>();
+    private Disposable scheduledFlush;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+    private final AtomicLong largestBatch = new AtomicLong();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong longestWaitNanos = new AtomicLong();
+
+    BatchLoader(String name, Duration maxWait, int maxBatchSize, Function<Set<K>, Mono<Map<K, List<V>>>> loader) {
+        this.name = name;
+        this.maxWait = maxWait;
+        this.maxBatchSize = maxBatchSize;
+        this.loader = loader;
+    }
+
+    Mono<List<V>> load(K key) {
+        return Mono.create(sink -> enqueue(new Pending<>(key, sink, System.nanoTime())));
+    }
+
+    BatchLoaderResponse stats() {
+        long batchCount = batches.sum();
+        return BatchLoaderResponse.builder()
+                .name(name)
+                .batches(batchCount)
+                .keys(keys.sum())
+                .averageBatchSize(batchCount == 0 ? 0 : (double) keys.sum() / batchCount)
+                .largestBatch(largestBatch.get())
+                .averageWaitMillis(batchCount == 0 ? 0 : totalWaitNanos.sum() / 1_000_000d / batchCount)
+                .longestWaitMillis(longestWaitNanos.get() / 1_000_000d)
+                .build();
+    }
+
+    private void enqueue(Pending<K, V> request) {
+        List<Pending<K, V>> ready = null;
+        synchronized (lock) {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                ready = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = Schedulers.parallel().schedule(this::flush, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (ready != null)
+            dispatch(ready);
+    }
+
+    private void flush() {
+        List<Pending<K, V>> ready;
+        synchronized (lock) {
+            ready = takePending();
+        }
+        if (!ready.isEmpty())
+            dispatch(ready);
+    }
+
+    // Callers hold the lock
+    private List<Pending<K, V>> takePending() {
+        List<Pending<K, V>> ready = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Pending<K, V>> batch) {
+        Set<K> batchKeys = new LinkedHashSet<>();
+        batch.forEach(request -> batchKeys.add(request.key()));
+        record(batch.size(), System.nanoTime() - batch.getFirst().enqueuedAt());
+
+        loader.apply(batchKeys).subscribe(
+                values -> batch.forEach(request -> request.sink().success(values.getOrDefault(request.key(), List.of()))),
+                error -> {
+                    log.warn("{} batch of {} keys failed: {}", name, batchKeys.size(), error.getMessage());
+                    batch.forEach(request -> request.sink().error(error));
+                });
+    }
+
+    private void record(int size, long waitNanos) {
+        batches.increment();
+        keys.add(size);
+        largestBatch.accumulateAndGet(size, Math::max);
+        totalWaitNanos.add(waitNanos);
+        longestWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private record Pending<K, V>(K key, MonoSink<List<V>> sink, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,91 @@
+package dm.dracolich.library.web.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import dm.dracolich.library.web.config.CatalogVersionCallback;
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+
+/**
+ * Inserts library documents with unordered bulk writes, one round trip per chunk. A failed document does not stop
+ * the rest of its chunk; failures are counted, with duplicate keys reported separately.
+ * Every document of a run shares one catalog version, instead of taking one each.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkInserter {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+
+    @Value("${library.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    public record Result(long inserted, long duplicates, long failed) {
+        static final Result NONE = new Result(0, 0, 0);
+
+        Result plus(Result other) {
+            return new Result(inserted + other.inserted, duplicates + other.duplicates, failed + other.failed);
+        }
+    }
+
+    /**
+     * Ids are assigned up front, so the given entities can be referenced by id once this completes.
+     */
+    public <E extends CatalogEntity> Mono<Result> insert(Class<E> type, List<E> entities) {
+        if (entities.isEmpty())
+            return Mono.just(Result.NONE);
+
+        entities.forEach(entity -> {
+            if (entity.getId() == null)
+                entity.setId(new ObjectId().toHexString());
+        });
+
+        return versions.withNext(version -> Flux.fromIterable(entities)
+                .buffer(chunkSize)
+                .concatMap(chunk -> insertChunk(type, chunk))
+                .reduce(Result.NONE, Result::plus)
+                .contextWrite(Context.of(CatalogVersionCallback.BATCH_VERSION, version)))
+                .doOnNext(result -> {
+                    if (result.failed() > 0 || result.duplicates() > 0)
+                        log.warn("Bulk insert into {}: {}", mongoTemplate.getCollectionName(type), result);
+                });
+    }
+
+    private <E> Mono<Result> insertChunk(Class<E> type, List<E> chunk) {
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type)
+                .insert(chunk)
+                .execute()
+                .map(result -> new Result(result.getInsertedCount(), 0, 0))
+                .onErrorResume(error -> bulkWriteException(error) != null,
+                        error -> Mono.just(partial(bulkWriteException(error))));
+    }
+
+    private static Result partial(MongoBulkWriteException exception) {
+        List<BulkWriteError> errors = exception.getWriteErrors();
+        long duplicates = errors.stream().filter(error -> error.getCode() == DUPLICATE_KEY).count();
+        return new Result(exception.getWriteResult().getInsertedCount(), duplicates, errors.size() - duplicates);
+    }
+
+    // The template translates bulk write failures, the driver exception stays in the cause chain
+    static MongoBulkWriteException bulkWriteException(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause())
+            if (cause instanceof MongoBulkWriteException bulkWriteException)
+                return bulkWriteException;
+        return null;
+    }
+}
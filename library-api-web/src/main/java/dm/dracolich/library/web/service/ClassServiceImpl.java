@@ -7,15 +7,27 @@ import dm.dracolich.library.web.mapper.ClassMapper;
 import dm.dracolich.library.web.mapper.SubclassMapper;
 import dm.dracolich.library.web.repository.ClassRepository;
 import dm.dracolich.library.web.repository.SubclassRepository;
+import dm.dracolich.library.web.service.catalog.CatalogJson;
+import dm.dracolich.library.web.service.catalog.CatalogSlices;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshot;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.KnownNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,47 +38,115 @@ public class ClassServiceImpl implements ClassService {
 
     private final SubclassRepository subclassRepo;
     private final SubclassMapper subclassMapper;
+    private final SubEntityLoaders subEntityLoaders;
+
+    private final CatalogSnapshotService catalog;
+    private final CatalogJson catalogJson;
+    private final KnownNames knownNames;
+
+    private final SingleFlight<String, ClassDto> detailedByName = new SingleFlight<>();
+
+    @Value("${library.classes.lookup-aggregation:false}")
+    private boolean lookupAggregation;
 
     @Override
     public Mono<ClassResumedRecord> fetchClassByName(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .map(mapper::entityToResumedRecord);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.classes().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(mapper.entityToResumedRecord(cached.get()));
+
+            return knownNames.guard(ClassEntity.class, name, () -> repo.findResumedByNameCaseInsensitive(name)
+                    .map(mapper::entityToResumedRecord));
+        });
     }
 
     @Override
     public Mono<ClassDto> fetchClassByNameDetailed(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .flatMap(this::enrichWithSubclasses);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.classes().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(toDetailed(snapshot, cached.get()));
+
+            return knownNames.guard(ClassEntity.class, name, () -> detailedByName.execute(name.toLowerCase(Locale.ROOT), () -> {
+                if (lookupAggregation)
+                    return repo.findByNameWithSubclasses(name)
+                            .map(mapper::entityToDto);
+
+                return repo.findByNameCaseInsensitive(name)
+                        .flatMap(this::enrichWithSubclasses);
+            }));
+        });
     }
 
+    /**
+     * Canonical classes only, as the JSON {@link #fetchClassByNameDetailed} or {@link #fetchClassByName} would produce;
+     * empty when the class is not in the snapshot.
+     */
     @Override
-    public Mono<Page<ClassResumedRecord>> fetchAllClasses(boolean includeCustom, int page, int size) {
-        return repo.findAllPaginated(includeCustom, page, size)
-                .map(p -> p.map(mapper::entityToResumedRecord));
+    public Mono<DataBuffer> fetchEncodedClassByName(String name, boolean includeDetails) {
+        return catalog.snapshot().flatMap(snapshot -> Mono.justOrEmpty(snapshot.classes().findByName(name))
+                .map(classEntity -> includeDetails
+                        ? catalogJson.encode(snapshot, "class-detailed", classEntity, entity -> toDetailed(snapshot, entity))
+                        : catalogJson.encode(snapshot, "class-resumed", classEntity, mapper::entityToResumedRecord)));
     }
 
     @Override
-    public Mono<Page<ClassDto>> fetchAllClassesDetailed(boolean includeCustom, int page, int size) {
-        return repo.findAllPaginated(includeCustom, page, size)
-                .flatMap(p -> Flux.fromIterable(p.getContent())
-                        .flatMap(this::enrichWithSubclasses)
-                        .collectList()
-                        .map(list -> new PageImpl<>(list, p.getPageable(), p.getTotalElements())));
+    public Mono<Slice<ClassResumedRecord>> fetchAllClasses(boolean includeCustom, int page, int size, boolean withTotal) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (!includeCustom && snapshot.isLoaded())
+                return Mono.just(CatalogSlices.of(snapshot.classes().all(), page, size, withTotal)
+                        .map(mapper::entityToResumedRecord));
+
+            return repo.findAllResumedPaginated(includeCustom, page, size, withTotal)
+                    .map(p -> p.map(mapper::entityToResumedRecord));
+        });
     }
 
     @Override
-    public Mono<Page<ClassResumedRecord>> searchClassesByName(String name, boolean includeCustom, int page, int size) {
-        return repo.searchByNamePaginated(name, includeCustom, page, size)
-                .map(p -> p.map(mapper::entityToResumedRecord));
+    public Mono<Slice<ClassDto>> fetchAllClassesDetailed(boolean includeCustom, int page, int size, boolean withTotal) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (!includeCustom && snapshot.isLoaded())
+                return Mono.just(CatalogSlices.of(snapshot.classes().all(), page, size, withTotal)
+                        .map(classEntity -> toDetailed(snapshot, classEntity)));
+
+            if (lookupAggregation)
+                return repo.findAllWithSubclassesPaginated(includeCustom, page, size, withTotal)
+                        .map(p -> p.map(mapper::entityToDto));
+
+            return repo.findAllPaginated(includeCustom, page, size, withTotal)
+                    .flatMap(p -> enrichWithSubclasses(p.getContent())
+                            .map(list -> withContent(p, list)));
+        });
     }
 
     @Override
-    public Mono<Page<ClassDto>> searchClassesByNameDetailed(String name, boolean includeCustom, int page, int size) {
-        return repo.searchByNamePaginated(name, includeCustom, page, size)
-                .flatMap(p -> Flux.fromIterable(p.getContent())
-                        .flatMap(this::enrichWithSubclasses)
-                        .collectList()
-                        .map(list -> new PageImpl<>(list, p.getPageable(), p.getTotalElements())));
+    public Mono<Slice<ClassResumedRecord>> searchClassesByName(String name, boolean includeCustom, int page, int size, boolean withTotal) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (!includeCustom && snapshot.isLoaded())
+                return Mono.just(CatalogSlices.of(snapshot.classes().searchByName(name), page, size, withTotal)
+                        .map(mapper::entityToResumedRecord));
+
+            return repo.searchByNameResumedPaginated(name, includeCustom, page, size, withTotal)
+                    .map(p -> p.map(mapper::entityToResumedRecord));
+        });
+    }
+
+    @Override
+    public Mono<Slice<ClassDto>> searchClassesByNameDetailed(String name, boolean includeCustom, int page, int size, boolean withTotal) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (!includeCustom && snapshot.isLoaded())
+                return Mono.just(CatalogSlices.of(snapshot.classes().searchByName(name), page, size, withTotal)
+                        .map(classEntity -> toDetailed(snapshot, classEntity)));
+
+            if (lookupAggregation)
+                return repo.searchByNameWithSubclassesPaginated(name, includeCustom, page, size, withTotal)
+                        .map(p -> p.map(mapper::entityToDto));
+
+            return repo.searchByNamePaginated(name, includeCustom, page, size, withTotal)
+                    .flatMap(p -> enrichWithSubclasses(p.getContent())
+                            .map(list -> withContent(p, list)));
+        });
     }
 
     @Override
@@ -81,12 +161,53 @@ public class ClassServiceImpl implements ClassService {
     private Mono<ClassDto> enrichWithSubclasses(ClassEntity classEntity) {
         var mapped = mapper.entityToDto(classEntity);
 
-        return subclassRepo.findAllByClassNameIgnoreCase(classEntity.getName())
-                .map(subclassMapper::entityToDto)
-                .collectList()
+        return subEntityLoaders.subclassesOf(classEntity.getName())
                 .map(subclassesList -> {
-                    mapped.setSubclasses(new HashSet<>(subclassesList));
+                    mapped.setSubclasses(new HashSet<>(subclassesList.stream()
+                            .map(subclassMapper::entityToDto)
+                            .toList()));
                     return mapped;
                 });
     }
+
+    // Lists custom subclasses of the class too, as the Mongo path does
+    private ClassDto toDetailed(CatalogSnapshot snapshot, ClassEntity classEntity) {
+        var mapped = mapper.entityToDto(classEntity);
+        mapped.setSubclasses(new HashSet<>(Stream.concat(snapshot.subclassesOf(classEntity.getName()).stream(),
+                        snapshot.customSubclassesOf(classEntity.getName()).stream())
+                .map(subclassMapper::entityToDto)
+                .toList()));
+        return mapped;
+    }
+
+    private static <T> Slice<T> withContent(Slice<?> slice, List<T> content) {
+        if (slice instanceof Page<?> page)
+            return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+
+        return new SliceImpl<>(content, slice.getPageable(), slice.hasNext());
+    }
+
+    /**
+     * Resolves subclasses for a whole page with a single {@code $in} query and groups them in memory.
+     * The query runs under the case-insensitive name collation, so {@code className} matches in any casing.
+     * The returned list keeps the order of {@code classEntities}.
+     */
+    private Mono<List<ClassDto>> enrichWithSubclasses(List<ClassEntity> classEntities) {
+        if (classEntities.isEmpty())
+            return Mono.just(List.of());
+
+        Set<String> classNames = new HashSet<>();
+        classEntities.forEach(classEntity -> classNames.add(classEntity.getName().toLowerCase(Locale.ROOT)));
+
+        return subclassRepo.findAllByClassNameInCaseInsensitive(classNames)
+                .collectMultimap(subclass -> subclass.getClassName().toLowerCase(Locale.ROOT), subclassMapper::entityToDto)
+                .map(subclassesByClass -> classEntities.stream()
+                        .map(classEntity -> {
+                            var mapped = mapper.entityToDto(classEntity);
+                            var subclasses = subclassesByClass.get(classEntity.getName().toLowerCase(Locale.ROOT));
+                            mapped.setSubclasses(subclasses == null ? new HashSet<>() : new HashSet<>(subclasses));
+                            return mapped;
+                        })
+                        .toList());
+    }
 }
@@ -0,0 +1,10 @@
+package dm.dracolich.library.web.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+public interface ExportService {
+    Flux<DataBuffer> exportLibrary(Instant since);
+}
@@ -0,0 +1,120 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.entity.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the library as gzip-compressed NDJSON, one {@code {"collection": ..., "document": ...}} line per document.
+ * Collections are read one after another from cursors in batches of {@value #BATCH_SIZE}; each batch is
+ * compressed and written as a single buffer before the next one is requested.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+    private static final int BATCH_SIZE = 100;
+
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.RELAXED)
+            .build();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Override
+    public Flux<DataBuffer> exportLibrary(Instant since) {
+        Flux<byte[]> lines = Flux.fromIterable(CatalogEntities.ALL)
+                .map(mongoTemplate::getCollectionName)
+                .concatMap(collection -> mongoTemplate.find(exportQuery(since), Document.class, collection)
+                        .map(document -> line(collection, document)));
+
+        return Flux.using(GzipBuffer::new,
+                gzip -> lines
+                        .buffer(BATCH_SIZE)
+                        .map(gzip::compress)
+                        .concatWith(Mono.fromCallable(gzip::finish))
+                        .map(bufferFactory::wrap),
+                GzipBuffer::close);
+    }
+
+    /**
+     * With {@code since}, only custom documents modified after it; canonical content only changes with a release.
+     */
+    private static Query exportQuery(Instant since) {
+        Query query = since == null
+                ? new Query()
+                : Query.query(Criteria.where("custom").is(true).and("updatedAt").gt(since));
+
+        return query.cursorBatchSize(BATCH_SIZE);
+    }
+
+    private static byte[] line(String collection, Document document) {
+        String json = new Document("collection", collection).append("document", document).toJson(JSON_SETTINGS);
+        return (json + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A gzip stream over a reusable in-memory buffer: every batch is sync-flushed and drained,
+     * so only one compressed batch is ever held.
+     */
+    private static final class GzipBuffer {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final GZIPOutputStream gzip;
+
+        GzipBuffer() throws IOException {
+            this.gzip = new GZIPOutputStream(buffer, true);
+        }
+
+        byte[] compress(List<byte[]> lines) {
+            try {
+                for (byte[] line : lines)
+                    gzip.write(line);
+                gzip.flush();
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        byte[] finish() throws IOException {
+            gzip.finish();
+            return drain();
+        }
+
+        void close() {
+            try {
+                gzip.close();
+            } catch (IOException e) {
+                log.debug("Failed to close export gzip stream: {}", e.getMessage());
+            }
+        }
+
+        private byte[] drain() {
+            byte[] bytes = buffer.toByteArray();
+            buffer.reset();
+            return bytes;
+        }
+    }
+}
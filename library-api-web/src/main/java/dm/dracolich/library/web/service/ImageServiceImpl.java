@@ -1,7 +1,10 @@
 package dm.dracolich.library.web.service;
 
 import dm.dracolich.library.dto.enums.EntityEnum;
+import dm.dracolich.library.web.entity.*;
 import dm.dracolich.library.web.repository.*;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.KnownNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.codec.multipart.FilePart;
@@ -21,6 +24,9 @@ public class ImageServiceImpl implements ImageService {
     private final SubclassRepository subclassRepo;
     private final SubraceRepository subraceRepo;
 
+    private final CatalogSnapshotService catalog;
+    private final KnownNames knownNames;
+
 
     @Override
     public Mono<String> uploadImage(FilePart filePart, EntityEnum entityType, String name) {
@@ -36,63 +42,71 @@ public class ImageServiceImpl implements ImageService {
     }
 
     private Mono<String> saveClassImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "classes")
-                .flatMap(url -> classRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        // Unknown names are rejected before the upload, not after it
+        return knownNames.guard(ClassEntity.class, name, () -> classRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "classes")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return classRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            // The snapshot picks the change up in the background, concurrent uploads share one catch-up
+                            return classRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveEquipmentImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "equipments")
-                .flatMap(url -> equipmentRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        return knownNames.guard(EquipmentEntity.class, name, () -> equipmentRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "equipments")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return equipmentRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            return equipmentRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveRaceImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "races")
-                .flatMap(url -> raceRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        return knownNames.guard(RaceEntity.class, name, () -> raceRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "races")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return raceRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            return raceRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveSpellImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "spells")
-                .flatMap(url -> spellRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        return knownNames.guard(SpellEntity.class, name, () -> spellRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "spells")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return spellRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            return spellRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveSubclassImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "subclasses")
-                .flatMap(url -> subclassRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        return knownNames.guard(SubclassEntity.class, name, () -> subclassRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "subclasses")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return subclassRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            return subclassRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveSubraceImage(FilePart filePart, String name) {
-        return cloudinary.upload(filePart, "subclasses")
-                .flatMap(url -> subraceRepo.findByNameIgnoreCase(name)
-                        .flatMap(entity -> {
+        return knownNames.guard(SubraceEntity.class, name, () -> subraceRepo.findByNameCaseInsensitive(name))
+                .flatMap(entity -> cloudinary.upload(filePart, "subclasses")
+                        .flatMap(url -> {
                             entity.setImage(url);
-                            return subraceRepo.save(entity);
-                        })
-                        .thenReturn(url));
+                            return subraceRepo.save(entity)
+                                    .doOnSuccess(saved -> catalog.catchUp())
+                                    .thenReturn(url);
+                        }));
     }
 
     private Mono<String> saveCommonImage(FilePart filePart) {
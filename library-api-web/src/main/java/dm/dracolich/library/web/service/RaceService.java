@@ -2,6 +2,7 @@ package dm.dracolich.library.web.service;
 
 import dm.dracolich.library.dto.RaceDto;
 import dm.dracolich.library.dto.records.RaceResumedRecord;
+import org.springframework.core.io.buffer.DataBuffer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,6 +12,7 @@ public interface RaceService {
     Flux<RaceDto> fetchAllRacesDetailed();
     Mono<RaceResumedRecord> fetchRaceByName(String name);
     Mono<RaceDto> fetchRaceDetailed(String name);
+    Mono<DataBuffer> fetchEncodedRaceByName(String name, boolean includeDetails);
     Flux<RaceResumedRecord> searchRacesByName(String name);
     Flux<RaceDto> seachRacesByNameDetailed(String name);
 }
@@ -2,71 +2,147 @@ package dm.dracolich.library.web.service;
 
 import dm.dracolich.library.dto.RaceDto;
 import dm.dracolich.library.dto.records.RaceResumedRecord;
+import dm.dracolich.library.web.entity.NameKeys;
 import dm.dracolich.library.web.entity.RaceEntity;
 import dm.dracolich.library.web.mapper.RaceMapper;
 import dm.dracolich.library.web.mapper.SubraceMapper;
 import dm.dracolich.library.web.repository.RaceRepository;
-import dm.dracolich.library.web.repository.SubraceRepository;
+import dm.dracolich.library.web.service.catalog.CatalogJson;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshot;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.KnownNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashSet;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 public class RaceServiceImpl implements RaceService {
     private final RaceRepository repo;
-    private final SubraceRepository subraceRepo;
     private final RaceMapper mapper;
     private final SubraceMapper subraceMapper;
+    private final SubEntityLoaders subEntityLoaders;
+    private final CatalogSnapshotService catalog;
+    private final CatalogJson catalogJson;
+    private final KnownNames knownNames;
+
+    private final SingleFlight<String, RaceDto> detailedByName = new SingleFlight<>();
 
     @Override
     public Flux<RaceResumedRecord> fetchAllRaces() {
-        return repo.findAll()
-            .map(mapper::entityToResumedRecord);
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return Flux.fromIterable(snapshot.races().all())
+                        .concatWith(repo.findAllCustomResumed())
+                        .map(mapper::entityToResumedRecord);
+
+            return repo.findAllResumed()
+                .map(mapper::entityToResumedRecord);
+        });
     }
 
     @Override
     public Flux<RaceDto> fetchAllRacesDetailed() {
-        return repo.findAll()
-                .flatMap(this::enrichWithSubraces);
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return Flux.fromIterable(snapshot.races().all())
+                        .map(raceEntity -> toDetailed(snapshot, raceEntity))
+                        .concatWith(repo.findAllByCustomIsTrue().flatMap(this::enrichWithSubraces));
+
+            return repo.findAll()
+                    .flatMap(this::enrichWithSubraces);
+        });
     }
 
     @Override
     public Mono<RaceResumedRecord> fetchRaceByName(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .map(mapper::entityToResumedRecord);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.races().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(mapper.entityToResumedRecord(cached.get()));
+
+            return knownNames.guard(RaceEntity.class, name, () -> repo.findResumedByNameCaseInsensitive(name)
+                    .map(mapper::entityToResumedRecord));
+        });
     }
 
     @Override
     public Mono<RaceDto> fetchRaceDetailed(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .flatMap(this::enrichWithSubraces);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.races().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(toDetailed(snapshot, cached.get()));
+
+            return knownNames.guard(RaceEntity.class, name, () -> detailedByName.execute(name.toLowerCase(Locale.ROOT),
+                    () -> repo.findByNameCaseInsensitive(name)
+                            .flatMap(this::enrichWithSubraces)));
+        });
+    }
+
+    @Override
+    public Mono<DataBuffer> fetchEncodedRaceByName(String name, boolean includeDetails) {
+        return catalog.snapshot().flatMap(snapshot -> Mono.justOrEmpty(snapshot.races().findByName(name))
+                .map(raceEntity -> includeDetails
+                        ? catalogJson.encode(snapshot, "race-detailed", raceEntity, entity -> toDetailed(snapshot, entity))
+                        : catalogJson.encode(snapshot, "race-resumed", raceEntity, mapper::entityToResumedRecord)));
     }
 
     @Override
     public Flux<RaceResumedRecord> searchRacesByName(String name) {
-        return repo.findAllByNameContainingIgnoreCase(name)
-                .map(mapper::entityToResumedRecord);
+        String nameKey = NameKeys.normalize(name);
+        if (nameKey.isEmpty())
+            return Flux.empty();
+
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return Flux.fromIterable(snapshot.races().searchByName(name))
+                        .concatWith(repo.findAllCustomResumedByNameKeyMatching(NameKeys.prefixPattern(nameKey)))
+                        .map(mapper::entityToResumedRecord);
+
+            return repo.findAllResumedByNameKeyMatching(NameKeys.prefixPattern(nameKey))
+                    .map(mapper::entityToResumedRecord);
+        });
     }
 
     @Override
     public Flux<RaceDto> seachRacesByNameDetailed(String name) {
-        return repo.findAllByNameContainingIgnoreCase(name)
-                .flatMap(this::enrichWithSubraces);
+        String nameKey = NameKeys.normalize(name);
+        if (nameKey.isEmpty())
+            return Flux.empty();
+
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return Flux.fromIterable(snapshot.races().searchByName(name))
+                        .map(raceEntity -> toDetailed(snapshot, raceEntity))
+                        .concatWith(repo.findAllByCustomIsTrueAndNameKeyStartingWith(nameKey)
+                                .flatMap(this::enrichWithSubraces));
+
+            return repo.findAllByNameKeyStartingWith(nameKey)
+                    .flatMap(this::enrichWithSubraces);
+        });
     }
 
+    private RaceDto toDetailed(CatalogSnapshot snapshot, RaceEntity raceEntity) {
+        var mapped = mapper.entityToDto(raceEntity);
+        mapped.setSubraces(new HashSet<>(snapshot.subracesOf(raceEntity.getName()).stream()
+                .map(subraceMapper::entityToDto)
+                .toList()));
+        return mapped;
+    }
 
     private Mono<RaceDto> enrichWithSubraces(RaceEntity raceEntity) {
         var mapped = mapper.entityToDto(raceEntity);
 
-        return subraceRepo.findAllByRaceNameIgnoreCase(raceEntity.getName())
-                .map(subraceMapper::entityToDto)
-                .collectList()
-                .map(subclassesList -> {
-                    mapped.setSubraces(new HashSet<>(subclassesList));
+        return subEntityLoaders.subracesOf(raceEntity.getName())
+                .map(subracesList -> {
+                    mapped.setSubraces(new HashSet<>(subracesList.stream()
+                            .map(subraceMapper::entityToDto)
+                            .toList()));
                     return mapped;
                 });
     }
@@ -0,0 +1,70 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.forge.error.ApiError;
+import dm.dracolich.forge.error.ErrorSeverity;
+import dm.dracolich.forge.exception.ResponseException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static dm.dracolich.library.dto.error.ErrorCodes.DMD013;
+import static dm.dracolich.library.dto.error.ErrorCodes.DMD016;
+
+/**
+ * Opaque cursor tokens for keyset pagination: the keyset of the last element (sort key and {@code _id})
+ * as extended JSON, base64url encoded, so ObjectIds survive the round trip.
+ * Decoded keysets must hold exactly those two keys with plain values, anything else would end up as query criteria.
+ */
+final class ScrollCursors {
+    private static final Set<String> KEYS = Set.of("name", "_id");
+
+    private ScrollCursors() {
+    }
+
+    static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset))
+            throw new IllegalArgumentException("Only keyset positions can be encoded: " + position);
+
+        String json = new Document(keyset.getKeys()).toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return ScrollPosition.keyset();
+
+        Document keys;
+        try {
+            keys = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw invalid(cursor);
+        }
+
+        if (!keys.keySet().equals(KEYS) || keys.values().stream().anyMatch(value -> value == null || value instanceof Document))
+            throw invalid(cursor);
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * The window size to query: {@code size} capped at {@code maxSize}; below 1 is rejected.
+     */
+    static int size(int size, int maxSize) {
+        if (size < 1)
+            throw new ResponseException(DMD016.format(String.valueOf(size)), List.of(new ApiError(DMD016,
+                    ErrorSeverity.ERROR, "ScrollCursors::size")), HttpStatus.BAD_REQUEST);
+
+        return Math.min(size, maxSize);
+    }
+
+    private static ResponseException invalid(String cursor) {
+        return new ResponseException(DMD013.format(cursor), List.of(new ApiError(DMD013, ErrorSeverity.ERROR,
+                "ScrollCursors::decode")), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,83 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.entity.CatalogEntity;
+import org.bson.Document;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Content hashes of one collection's seed documents, by name. A document hashes the way it is stored, minus the
+ * fields the database maintains itself, with keys sorted. Arrays stored from {@code Set} properties are sorted too,
+ * since sets iterate in no particular order; the order of lists is part of their content.
+ */
+final class SeedManifest {
+    static final Set<String> UNHASHED = Set.of(
+            "_id", "_class", "nameKey", "seedHash", "updatedAt", "createdVersion", "updatedVersion");
+
+    private final Map<String, String> hashes;
+
+    private SeedManifest(Map<String, String> hashes) {
+        this.hashes = hashes;
+    }
+
+    static SeedManifest of(List<? extends CatalogEntity> seeds, MongoConverter converter) {
+        Map<String, String> hashes = new HashMap<>();
+        for (CatalogEntity seed : seeds) {
+            Document document = new Document();
+            converter.write(seed, document);
+            String canonical = canonical(document, TypeInformation.of(seed.getClass()), converter.getMappingContext());
+            hashes.put(seed.getName(), DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8)));
+        }
+        return new SeedManifest(hashes);
+    }
+
+    String hash(String name) {
+        return hashes.get(name);
+    }
+
+    // type is the declared type of value, null where the mapping metadata does not tell
+    private static String canonical(Object value, TypeInformation<?> type,
+                                    MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> context) {
+        if (value instanceof Map<?, ?> map) {
+            MongoPersistentEntity<?> entity = type == null || type.isMap() ? null : context.getPersistentEntity(type);
+            StringBuilder builder = new StringBuilder("{");
+            map.entrySet().stream()
+                    .filter(entry -> !UNHASHED.contains(String.valueOf(entry.getKey())))
+                    .map(entry -> entry.getKey() + "=" + canonical(entry.getValue(), valueType(entry.getKey(), type, entity), context))
+                    .sorted()
+                    .forEach(entry -> builder.append(entry).append(','));
+            return builder.append('}').toString();
+        }
+        if (value instanceof List<?> list) {
+            TypeInformation<?> elementType = type == null ? null : type.getComponentType();
+            Stream<String> elements = list.stream().map(element -> canonical(element, elementType, context));
+            if (type != null && Set.class.isAssignableFrom(type.getType()))
+                elements = elements.sorted();
+            return "[" + String.join(",", elements.toList()) + "]";
+        }
+        if (value == null)
+            return "null";
+        return value.getClass().getSimpleName() + ":" + value;
+    }
+
+    private static TypeInformation<?> valueType(Object key, TypeInformation<?> type, MongoPersistentEntity<?> entity) {
+        if (type != null && type.isMap())
+            return type.getMapValueType();
+        if (entity == null)
+            return null;
+
+        MongoPersistentProperty property = entity.getPersistentProperty(String.valueOf(key));
+        return property == null ? null : property.getTypeInformation();
+    }
+}
@@ -0,0 +1,133 @@
+package dm.dracolich.library.web.service;
+
+import com.mongodb.MongoBulkWriteException;
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.entity.NameKeys;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings a collection in line with its seed set. Stored canonical documents carry the {@code seedHash} they were
+ * last seeded with, so one projected query per collection tells which seeds are new, changed or unchanged.
+ * New seeds are bulk inserted, changed ones are patched in place and custom documents are never written.
+ * <p>
+ * Seeds come back with the id of the document they match, so later stages can embed them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeedReconciler {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+    private final BulkInserter bulkInserter;
+
+    @Value("${library.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    public record Result(long inserted, long updated, long unchanged, long custom, long failed) {
+    }
+
+    private record Patched(long updated, long failed) {
+        static final Patched NONE = new Patched(0, 0);
+
+        Patched plus(Patched other) {
+            return new Patched(updated + other.updated, failed + other.failed);
+        }
+    }
+
+    public <E extends CatalogEntity> Mono<Result> reconcile(Class<E> type, List<E> seeds) {
+        SeedManifest manifest = SeedManifest.of(seeds, mongoTemplate.getConverter());
+        Query stored = new Query();
+        stored.fields().include("name", "seedHash", "custom");
+
+        return mongoTemplate.find(stored, Document.class, mongoTemplate.getCollectionName(type))
+                .collectMap(document -> document.getString("name"))
+                .flatMap(documents -> {
+                    List<E> inserts = new ArrayList<>();
+                    List<E> updates = new ArrayList<>();
+                    long custom = 0;
+                    for (E seed : seeds) {
+                        String hash = manifest.hash(seed.getName());
+                        Document document = documents.get(seed.getName());
+                        if (document == null) {
+                            seed.setSeedHash(hash);
+                            inserts.add(seed);
+                            continue;
+                        }
+
+                        seed.setId(document.get("_id").toString());
+                        if (Boolean.TRUE.equals(document.getBoolean("custom")))
+                            custom++;
+                        else if (!hash.equals(document.getString("seedHash")))
+                            updates.add(seed);
+                    }
+
+                    long unchanged = seeds.size() - inserts.size() - updates.size() - custom;
+                    long customCount = custom;
+                    return Mono.zip(bulkInserter.insert(type, inserts), update(type, updates, manifest))
+                            .map(results -> {
+                                BulkInserter.Result inserted = results.getT1();
+                                Patched patched = results.getT2();
+                                return new Result(inserted.inserted(), patched.updated(), unchanged, customCount,
+                                        inserted.duplicates() + inserted.failed() + patched.failed());
+                            });
+                });
+    }
+
+    private <E extends CatalogEntity> Mono<Patched> update(Class<E> type, List<E> seeds, SeedManifest manifest) {
+        if (seeds.isEmpty())
+            return Mono.just(Patched.NONE);
+
+        return versions.withNext(version -> Flux.fromIterable(seeds)
+                .buffer(chunkSize)
+                .concatMap(chunk -> {
+                    ReactiveBulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+                    chunk.forEach(seed -> operations.updateOne(canonical(seed), patch(seed, manifest.hash(seed.getName()), version)));
+                    return operations.execute()
+                            .map(result -> new Patched(result.getModifiedCount(), 0))
+                            .onErrorResume(error -> BulkInserter.bulkWriteException(error) != null, error -> {
+                                MongoBulkWriteException exception = BulkInserter.bulkWriteException(error);
+                                return Mono.just(new Patched(exception.getWriteResult().getModifiedCount(),
+                                        exception.getWriteErrors().size()));
+                            });
+                })
+                .reduce(Patched.NONE, Patched::plus));
+    }
+
+    // Sets the seeded fields only, so values the seed leaves empty (uploaded images) survive the update
+    private Update patch(CatalogEntity seed, String hash, long version) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(seed, document);
+
+        Update update = new Update();
+        for (Map.Entry<String, Object> field : document.entrySet())
+            if (!SeedManifest.UNHASHED.contains(field.getKey()))
+                update.set(field.getKey(), field.getValue());
+        update.set("nameKey", NameKeys.normalize(seed.getName()))
+                .set("seedHash", hash)
+                .set("updatedVersion", version)
+                .currentDate("updatedAt");
+
+        return update;
+    }
+
+    private static Query canonical(CatalogEntity seed) {
+        return Query.query(Criteria.where("id").is(seed.getId()).and("custom").ne(true));
+    }
+}
@@ -0,0 +1,34 @@
+package dm.dracolich.library.web.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical lookups: callers asking for a key that is already in flight subscribe to the same
+ * execution instead of starting their own. The execution is reference counted, so it is only cancelled once every
+ * caller has cancelled, and it leaves the map when it terminates so later calls see fresh data.
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, call)));
+    }
+
+    private Mono<V> share(K key, Supplier<Mono<V>> call) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        // replay(1) so a caller joining between the value and completion still gets the value
+        Mono<V> shared = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .flux()
+                .replay(1)
+                .refCount(1)
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,100 @@
+package dm.dracolich.library.web.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import dm.dracolich.forge.error.ApiError;
+import dm.dracolich.forge.error.ErrorSeverity;
+import dm.dracolich.forge.exception.ResponseException;
+import dm.dracolich.library.web.response.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static dm.dracolich.library.dto.error.ErrorCodes.DMD014;
+
+/**
+ * Support for the {@code fields} query parameter: a comma-separated list of top-level response properties.
+ * The list is validated against the response type before any I/O, and responses are trimmed to it
+ * without touching the DTOs themselves, which may be shared between requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class SparseFieldsets {
+    private final JsonMapper jsonMapper;
+
+    private final Map<Class<?>, Set<String>> propertiesByType = new ConcurrentHashMap<>();
+
+    /**
+     * @return the requested properties, or {@code null} when the whole representation was asked for
+     */
+    public Set<String> parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank())
+            return null;
+
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank())
+                requested.add(field.strip());
+        }
+
+        Set<String> unknown = new TreeSet<>(requested);
+        unknown.removeAll(propertiesByType.computeIfAbsent(type, SparseFieldsets::properties));
+        if (!unknown.isEmpty())
+            throw new ResponseException(DMD014.format(String.join(", ", unknown)), List.of(new ApiError(DMD014,
+                    ErrorSeverity.ERROR, "SparseFieldsets::parse")), HttpStatus.BAD_REQUEST);
+
+        return requested;
+    }
+
+    public Object select(Object value, Set<String> fields) {
+        if (fields == null)
+            return value;
+
+        ObjectNode node = jsonMapper.valueToTree(value);
+        node.retain(fields);
+        return node;
+    }
+
+    public Slice<?> select(Slice<?> slice, Set<String> fields) {
+        if (fields == null)
+            return slice;
+
+        return slice.map(value -> select(value, fields));
+    }
+
+    public CursorResponse<?> select(CursorResponse<?> window, Set<String> fields) {
+        if (fields == null)
+            return window;
+
+        return CursorResponse.<Object>builder()
+                .content(window.getContent().stream().map(value -> select(value, fields)).toList())
+                .nextCursor(window.getNextCursor())
+                .build();
+    }
+
+    private static Set<String> properties(Class<?> type) {
+        if (type.isRecord())
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+
+        Set<String> properties = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(JsonIgnore.class))
+                    properties.add(field.getName());
+            }
+        }
+
+        return Set.copyOf(properties);
+    }
+}
@@ -5,13 +5,22 @@ import dm.dracolich.library.dto.enums.AbilityTypeEnum;
 import dm.dracolich.library.dto.enums.DamageTypeEnum;
 import dm.dracolich.library.dto.enums.SchoolTypeEnum;
 import dm.dracolich.library.dto.enums.SpellTypeEnum;
-import org.springframework.data.domain.Page;
+import dm.dracolich.library.web.response.CursorResponse;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
 public interface SpellService {
     Mono<SpellDto> fetchSpellById(String name);
-    Mono<Page<SpellDto>> searchSpellsByName(String name, Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, int page, int size);
-    Mono<Page<SpellDto>> fetchSpellsByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, int page, int size);
+    Mono<DataBuffer> fetchEncodedSpellById(String id);
+    Mono<Slice<SpellDto>> searchSpellsByName(String name, Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, int page, int size, boolean withTotal, Set<String> fields);
+    Mono<Slice<SpellDto>> fetchSpellsByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, int page, int size, boolean withTotal, Set<String> fields);
+    Mono<CursorResponse<SpellDto>> scrollSpellsByName(String name, Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, String cursor, int size, Set<String> fields);
+    Flux<SpellDto> streamSpellsByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, Set<String> fields);
+    Mono<SpellFacetsResponse> fetchSpellFacets(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save);
+    Mono<CursorResponse<SpellDto>> scrollSpellsByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, String cursor, int size, Set<String> fields);
 }
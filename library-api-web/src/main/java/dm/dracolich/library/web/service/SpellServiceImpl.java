@@ -6,13 +6,26 @@ import dm.dracolich.library.dto.enums.DamageTypeEnum;
 import dm.dracolich.library.dto.enums.SchoolTypeEnum;
 import dm.dracolich.library.dto.enums.SpellTypeEnum;
 import dm.dracolich.library.web.mapper.SpellMapper;
+import dm.dracolich.library.web.entity.SpellEntity;
 import dm.dracolich.library.web.repository.SpellRepository;
+import dm.dracolich.library.web.response.CursorResponse;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
+import dm.dracolich.library.web.service.catalog.CatalogJson;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.diagnostics.SpellFilterShape;
+import dm.dracolich.library.web.service.diagnostics.SpellFilterShapeRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -21,26 +34,120 @@ import java.util.Set;
 public class SpellServiceImpl implements SpellService {
     private final SpellRepository repo;
     private final SpellMapper mapper;
+    private final CatalogSnapshotService catalog;
+    private final CatalogJson catalogJson;
+    private final SpellFilterShapeRecorder shapeRecorder;
+
+    private final SingleFlight<String, SpellDto> byId = new SingleFlight<>();
+    private final SingleFlight<List<Object>, Slice<SpellDto>> byFilters = new SingleFlight<>();
+
+    @Value("${library.scroll.max-size:100}")
+    private int scrollMaxSize;
 
     @Override
     public Mono<SpellDto> fetchSpellById(String id) {
-        return repo.findById(id)
-                .map(mapper::entityToDto);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.spells().findById(id);
+            if (cached.isPresent())
+                return Mono.just(mapper.entityToDto(cached.get()));
+
+            return byId.execute(id, () -> repo.findById(id)
+                    .map(mapper::entityToDto));
+        });
     }
 
     @Override
-    public Mono<Page<SpellDto>> searchSpellsByName(String name, Integer level, SpellTypeEnum type,
+    public Mono<DataBuffer> fetchEncodedSpellById(String id) {
+        return catalog.snapshot().flatMap(snapshot -> Mono.justOrEmpty(snapshot.spells().findById(id))
+                .map(spellEntity -> catalogJson.encode(snapshot, "spell", spellEntity, mapper::entityToDto)));
+    }
+
+    @Override
+    public Mono<Slice<SpellDto>> searchSpellsByName(String name, Integer level, SpellTypeEnum type,
                                                     SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
-                                                    AbilityTypeEnum save, int page, int size) {
-        return repo.findByFilters(name, level, type, school, damageTypes, save, page, size)
-                .map(p -> p.map(mapper::entityToDto));
+                                                    AbilityTypeEnum save, int page, int size, boolean withTotal,
+                                                    Set<String> fields) {
+        shapeRecorder.record(SpellFilterShape.of(name, level, type, school, damageTypes, save));
+
+        return byFilters.execute(filterKey(name, level, type, school, damageTypes, save, page, size, withTotal, fields),
+                () -> repo.findByFilters(name, level, type, school, damageTypes, save, page, size, withTotal, fields)
+                        .map(p -> p.map(mapper::entityToDto)));
     }
 
     @Override
-    public Mono<Page<SpellDto>> fetchSpellsByFilters(Integer level, SpellTypeEnum type,
+    public Mono<Slice<SpellDto>> fetchSpellsByFilters(Integer level, SpellTypeEnum type,
                                                      SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
-                                                     AbilityTypeEnum save, int page, int size) {
-        return repo.findByFilters(null, level, type, school, damageTypes, save, page, size)
-                .map(p -> p.map(mapper::entityToDto));
+                                                     AbilityTypeEnum save, int page, int size, boolean withTotal,
+                                                     Set<String> fields) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (snapshot.isLoaded())
+                return Mono.just(snapshot.spellFilter().filter(level, type, school, damageTypes, save, page, size, withTotal)
+                        .map(mapper::entityToDto));
+
+            shapeRecorder.record(SpellFilterShape.of(null, level, type, school, damageTypes, save));
+            return byFilters.execute(filterKey(null, level, type, school, damageTypes, save, page, size, withTotal, fields),
+                    () -> repo.findByFilters(null, level, type, school, damageTypes, save, page, size, withTotal, fields)
+                            .map(p -> p.map(mapper::entityToDto)));
+        });
+    }
+
+    @Override
+    public Flux<SpellDto> streamSpellsByFilters(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                                Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, Set<String> fields) {
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return Flux.fromIterable(snapshot.spellFilter().matching(level, type, school, damageTypes, save))
+                        .map(mapper::entityToDto);
+
+            shapeRecorder.record(SpellFilterShape.of(null, level, type, school, damageTypes, save));
+            return repo.streamByFilters(level, type, school, damageTypes, save, fields)
+                    .map(mapper::entityToDto);
+        });
+    }
+
+    @Override
+    public Mono<SpellFacetsResponse> fetchSpellFacets(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                                      Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        return catalog.snapshot().flatMap(snapshot -> {
+            if (snapshot.isLoaded())
+                return Mono.just(snapshot.spellFilter().facets(level, type, school, damageTypes, save));
+
+            return repo.countFacets(level, type, school, damageTypes, save);
+        });
+    }
+
+    @Override
+    public Mono<CursorResponse<SpellDto>> scrollSpellsByName(String name, Integer level, SpellTypeEnum type,
+                                                             SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                                             AbilityTypeEnum save, String cursor, int size,
+                                                             Set<String> fields) {
+        shapeRecorder.record(SpellFilterShape.of(name, level, type, school, damageTypes, save));
+
+        return Mono.fromCallable(() -> ScrollCursors.decode(cursor))
+                .flatMap(position -> repo.scrollByFilters(name, level, type, school, damageTypes, save, position,
+                        ScrollCursors.size(size, scrollMaxSize), fields))
+                .map(this::toCursorResponse);
+    }
+
+    @Override
+    public Mono<CursorResponse<SpellDto>> scrollSpellsByFilters(Integer level, SpellTypeEnum type,
+                                                                SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+                                                                AbilityTypeEnum save, String cursor, int size,
+                                                                Set<String> fields) {
+        return scrollSpellsByName(null, level, type, school, damageTypes, save, cursor, size, fields);
+    }
+
+    // Arrays.asList keeps the null (unset) filters, which List.of rejects
+    private static List<Object> filterKey(String name, Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                          Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save, int page, int size,
+                                          boolean withTotal, Set<String> fields) {
+        return Arrays.asList(name, level, type, school, damageTypes, save, page, size, withTotal, fields);
+    }
+
+    private CursorResponse<SpellDto> toCursorResponse(Window<SpellEntity> window) {
+        return CursorResponse.<SpellDto>builder()
+                .content(window.map(mapper::entityToDto).getContent())
+                .nextCursor(window.hasNext() ? ScrollCursors.encode(window.positionAt(window.size() - 1)) : null)
+                .build();
     }
 }
@@ -0,0 +1,69 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.entity.SubclassEntity;
+import dm.dracolich.library.web.entity.SubraceEntity;
+import dm.dracolich.library.web.repository.SubclassRepository;
+import dm.dracolich.library.web.repository.SubraceRepository;
+import dm.dracolich.library.web.response.BatchLoaderResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Batches subclass and subrace lookups by parent name across concurrent requests into single {@code $in} queries.
+ * Keys are lowercased parent names; the queries match them under the case-insensitive name collation.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubEntityLoaders {
+    private final SubclassRepository subclassRepo;
+    private final SubraceRepository subraceRepo;
+
+    @Value("${library.batch-loader.max-wait:2ms}")
+    private Duration maxWait;
+
+    @Value("${library.batch-loader.max-batch-size:50}")
+    private int maxBatchSize;
+
+    private BatchLoader<String, SubclassEntity> subclasses;
+    private BatchLoader<String, SubraceEntity> subraces;
+
+    @PostConstruct
+    void init() {
+        subclasses = new BatchLoader<>("subclassesByClass", maxWait, maxBatchSize,
+                classNames -> grouped(subclassRepo.findAllByClassNameInCaseInsensitive(classNames), SubclassEntity::getClassName));
+        subraces = new BatchLoader<>("subracesByRace", maxWait, maxBatchSize,
+                raceNames -> grouped(subraceRepo.findAllByRaceNameInCaseInsensitive(raceNames), SubraceEntity::getRaceName));
+    }
+
+    public Mono<List<SubclassEntity>> subclassesOf(String className) {
+        return subclasses.load(className.toLowerCase(Locale.ROOT));
+    }
+
+    public Mono<List<SubraceEntity>> subracesOf(String raceName) {
+        return subraces.load(raceName.toLowerCase(Locale.ROOT));
+    }
+
+    public List<BatchLoaderResponse> stats() {
+        return List.of(subclasses.stats(), subraces.stats());
+    }
+
+    private static <E> Mono<Map<String, List<E>>> grouped(Flux<E> entities, Function<E, String> parentName) {
+        return entities.collectMultimap(entity -> parentName.apply(entity).toLowerCase(Locale.ROOT))
+                .map(byParent -> {
+                    Map<String, List<E>> result = new HashMap<>();
+                    byParent.forEach((parent, children) -> result.put(parent, List.copyOf(children)));
+                    return result;
+                });
+    }
+}
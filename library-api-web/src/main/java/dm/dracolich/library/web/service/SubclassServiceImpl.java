@@ -2,9 +2,13 @@ package dm.dracolich.library.web.service;
 
 import dm.dracolich.library.dto.SubclassDto;
 import dm.dracolich.library.dto.enums.ClassEnum;
+import dm.dracolich.library.web.entity.NameKeys;
 import dm.dracolich.library.web.entity.SubclassEntity;
 import dm.dracolich.library.web.mapper.SubclassMapper;
 import dm.dracolich.library.web.repository.SubclassRepository;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshot;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.KnownNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Example;
@@ -20,26 +24,58 @@ import java.util.Locale;
 public class SubclassServiceImpl implements SubclassService {
     private final SubclassRepository repo;
     private final SubclassMapper mapper;
+    private final CatalogSnapshotService catalog;
+    private final KnownNames knownNames;
 
     @Override
     public Mono<SubclassDto> fetchSubclassByName(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .map(mapper::entityToDto);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.subclasses().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(mapper.entityToDto(cached.get()));
+
+            return knownNames.guard(SubclassEntity.class, name, () -> repo.findByNameCaseInsensitive(name)
+                    .map(mapper::entityToDto));
+        });
     }
 
     @Override
     public Flux<SubclassDto> searchSubclassesByFilter(String name, ClassEnum className) {
-        SubclassEntity example = new SubclassEntity();
+        if (name != null && NameKeys.normalize(name).isEmpty())
+            return Flux.empty();
+
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded())
+                return searchSnapshot(snapshot, name, className);
+
+            SubclassEntity example = new SubclassEntity();
+
+            if(name == null) {
+                if(className != null)
+                    example.setClassName(className.name().toLowerCase(Locale.ROOT));
+
+                return repo.findAll(Example.of(example))
+                        .map(mapper::entityToDto);
+            }
+
+            return repo.findAllByNameKeyStartingWith(NameKeys.normalize(name))
+                    .map(mapper::entityToDto);
+        });
+    }
 
+    // The example query matches custom=false only, so custom subclasses are merged in for name searches alone
+    private Flux<SubclassDto> searchSnapshot(CatalogSnapshot snapshot, String name, ClassEnum className) {
         if(name == null) {
-            if(className != null)
-                example.setClassName(className.name().toLowerCase(Locale.ROOT));
+            var subclasses = className != null
+                    ? snapshot.subclassesOf(className.name())
+                    : snapshot.subclasses().all();
 
-            return repo.findAll(Example.of(example))
+            return Flux.fromIterable(subclasses)
                     .map(mapper::entityToDto);
         }
 
-        return repo.findAllByNameContainingIgnoreCase(name, Example.of(example))
+        return Flux.fromIterable(snapshot.subclasses().searchByName(name))
+                .concatWith(repo.findAllByCustomIsTrueAndNameKeyStartingWith(NameKeys.normalize(name)))
                 .map(mapper::entityToDto);
     }
 }
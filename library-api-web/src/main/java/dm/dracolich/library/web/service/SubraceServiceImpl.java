@@ -1,9 +1,12 @@
 package dm.dracolich.library.web.service;
 
 import dm.dracolich.library.dto.SubraceDto;
+import dm.dracolich.library.web.entity.NameKeys;
 import dm.dracolich.library.web.entity.SubraceEntity;
 import dm.dracolich.library.web.mapper.SubraceMapper;
 import dm.dracolich.library.web.repository.SubraceRepository;
+import dm.dracolich.library.web.service.catalog.CatalogSnapshotService;
+import dm.dracolich.library.web.service.catalog.KnownNames;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cglib.core.Local;
 import org.springframework.data.domain.Example;
@@ -18,27 +21,50 @@ import java.util.Locale;
 public class SubraceServiceImpl implements  SubraceService {
     private final SubraceRepository repo;
     private final SubraceMapper mapper;
+    private final CatalogSnapshotService catalog;
+    private final KnownNames knownNames;
 
 
     @Override
     public Mono<SubraceDto> fetchSubraceByName(String name) {
-        return repo.findByNameIgnoreCase(name)
-                .map(mapper::entityToDto);
+        return catalog.snapshot().flatMap(snapshot -> {
+            var cached = snapshot.subraces().findByName(name);
+            if (cached.isPresent())
+                return Mono.just(mapper.entityToDto(cached.get()));
+
+            return knownNames.guard(SubraceEntity.class, name, () -> repo.findByNameCaseInsensitive(name)
+                    .map(mapper::entityToDto));
+        });
     }
 
     @Override
     public Flux<SubraceDto> searchSubracesByFilter(String name, String raceName) {
-        SubraceEntity example = new SubraceEntity();
+        if (name != null && NameKeys.normalize(name).isEmpty())
+            return Flux.empty();
 
-        if(name == null) {
-            if(raceName != null)
-                example.setRaceName(raceName);
+        // Subraces have no custom variant, so a loaded snapshot holds all of them
+        return catalog.snapshot().flatMapMany(snapshot -> {
+            if (snapshot.isLoaded()) {
+                var subraces = name != null
+                        ? snapshot.subraces().searchByName(name)
+                        : raceName != null ? snapshot.subracesOf(raceName) : snapshot.subraces().all();
 
-            return repo.findAll(Example.of(example))
-                    .map(mapper::entityToDto);
-        }
+                return Flux.fromIterable(subraces)
+                        .map(mapper::entityToDto);
+            }
+
+            SubraceEntity example = new SubraceEntity();
 
-        return repo.findAllByNameContainingIgnoreCase(name)
-                .map(mapper::entityToDto);
+            if(name == null) {
+                if(raceName != null)
+                    example.setRaceName(raceName);
+
+                return repo.findAll(Example.of(example))
+                        .map(mapper::entityToDto);
+            }
+
+            return repo.findAllByNameKeyStartingWith(NameKeys.normalize(name))
+                    .map(mapper::entityToDto);
+        });
     }
 }
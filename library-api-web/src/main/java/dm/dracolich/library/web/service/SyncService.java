@@ -0,0 +1,8 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.response.SyncEvent;
+import reactor.core.publisher.Flux;
+
+public interface SyncService {
+    Flux<SyncEvent> fetchChangesSince(long since);
+}
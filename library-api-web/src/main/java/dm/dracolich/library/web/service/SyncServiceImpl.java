@@ -0,0 +1,103 @@
+package dm.dracolich.library.web.service;
+
+import dm.dracolich.library.web.entity.*;
+import dm.dracolich.library.web.mapper.*;
+import dm.dracolich.library.web.response.SyncEvent;
+import dm.dracolich.library.web.service.catalog.CatalogVersionService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streams the changes of every library collection, read from cursors in batches of {@value #BATCH_SIZE}, so even a
+ * sync from 0 never holds more than a batch. Deletions come first: a tombstoned id that shows up again afterwards was
+ * written again since.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+    private static final int BATCH_SIZE = 100;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+    private final ClassMapper classMapper;
+    private final SubclassMapper subclassMapper;
+    private final RaceMapper raceMapper;
+    private final SubraceMapper subraceMapper;
+    private final SpellMapper spellMapper;
+    private final AttributeMapper attributeMapper;
+
+    // The mapper producing the API representation; collections without one are synced as stored
+    private final Map<Class<? extends CatalogEntity>, Function<CatalogEntity, Object>> mappers = new HashMap<>();
+
+    @PostConstruct
+    void registerMappers() {
+        register(ClassEntity.class, classMapper::entityToDto);
+        register(SubclassEntity.class, subclassMapper::entityToDto);
+        register(RaceEntity.class, raceMapper::entityToDto);
+        register(SubraceEntity.class, subraceMapper::entityToDto);
+        register(SpellEntity.class, spellMapper::entityToDto);
+        register(AttributeEntity.class, attributeMapper::entityToDto);
+    }
+
+    /**
+     * Changes are read up to the committed high-water mark, below which no write can still land, and the mark is
+     * sent on the closing line as the next {@code since}. Writes that commit above it are picked up by the next sync.
+     */
+    @Override
+    public Flux<SyncEvent> fetchChangesSince(long since) {
+        return versions.current()
+                .flatMapMany(version -> deletedSince(since, version.version())
+                        .concatWith(Flux.fromIterable(CatalogEntities.ALL)
+                                .concatMap(entityClass -> changedSince(entityClass, since, version.version())))
+                        .concatWith(Mono.just(SyncEvent.builder()
+                                .type(SyncEvent.Type.VERSION)
+                                .version(Math.max(since, version.version()))
+                                .build())));
+    }
+
+    private <E extends CatalogEntity> void register(Class<E> entityClass, Function<E, ?> mapper) {
+        mappers.put(entityClass, entity -> mapper.apply(entityClass.cast(entity)));
+    }
+
+    private Flux<SyncEvent> changedSince(Class<? extends CatalogEntity> entityClass, long since, long upTo) {
+        Query query = Query.query(Criteria.where("updatedVersion").gt(since).lte(upTo))
+                .with(Sort.by("updatedVersion"))
+                .cursorBatchSize(BATCH_SIZE);
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Function<CatalogEntity, Object> mapper = mappers.getOrDefault(entityClass, entity -> entity);
+
+        return mongoTemplate.find(query, entityClass)
+                .map(entity -> SyncEvent.builder()
+                        .type(entity.getCreatedVersion() != null && entity.getCreatedVersion() > since
+                                ? SyncEvent.Type.INSERTED
+                                : SyncEvent.Type.UPDATED)
+                        .collection(collection)
+                        .id(entity.getId())
+                        .document(mapper.apply(entity))
+                        .build());
+    }
+
+    private Flux<SyncEvent> deletedSince(long since, long upTo) {
+        Query query = Query.query(Criteria.where("version").gt(since).lte(upTo))
+                .with(Sort.by("version"))
+                .cursorBatchSize(BATCH_SIZE);
+
+        return mongoTemplate.find(query, TombstoneEntity.class)
+                .map(tombstone -> SyncEvent.builder()
+                        .type(SyncEvent.Type.DELETED)
+                        .collection(tombstone.getCollection())
+                        .id(tombstone.getDocumentId())
+                        .build());
+    }
+}
@@ -0,0 +1,71 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.library.web.entity.CatalogEntity;
+import dm.dracolich.library.web.entity.NameKeys;
+
+import java.util.*;
+
+/**
+ * Immutable view over one collection's canonical documents, indexed by id and by lower-cased name.
+ * Iteration order is the order the documents were read in, which is the collection's natural order.
+ */
+public final class CatalogIndex<E extends CatalogEntity> {
+    private final List<E> all;
+    private final List<String> nameKeys;
+    private final Map<String, E> byId;
+    private final Map<String, E> byName;
+
+    CatalogIndex(List<E> entities) {
+        Map<String, E> ids = new HashMap<>();
+        Map<String, E> names = new HashMap<>();
+        List<String> keys = new ArrayList<>(entities.size());
+
+        for (E entity : entities) {
+            ids.put(entity.getId(), entity);
+            names.putIfAbsent(entity.getName().toLowerCase(Locale.ROOT), entity);
+            keys.add(entity.getNameKey() != null ? entity.getNameKey() : NameKeys.normalize(entity.getName()));
+        }
+
+        this.all = List.copyOf(entities);
+        this.nameKeys = List.copyOf(keys);
+        this.byId = Map.copyOf(ids);
+        this.byName = Map.copyOf(names);
+    }
+
+    static <E extends CatalogEntity> CatalogIndex<E> empty() {
+        return new CatalogIndex<>(List.of());
+    }
+
+    public List<E> all() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public Optional<E> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<E> findByName(String name) {
+        return Optional.ofNullable(byName.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Same semantics as the {@code nameKey} prefix search in Mongo; a name normalizing to nothing matches nothing.
+     */
+    public List<E> searchByName(String name) {
+        String key = NameKeys.normalize(name);
+        if (key.isEmpty())
+            return List.of();
+
+        List<E> matches = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            if (nameKeys.get(i).startsWith(key))
+                matches.add(all.get(i));
+        }
+
+        return matches;
+    }
+}
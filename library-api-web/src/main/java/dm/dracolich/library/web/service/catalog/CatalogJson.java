@@ -0,0 +1,26 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.library.web.entity.CatalogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.function.Function;
+
+/**
+ * Serves snapshot documents as pre-encoded JSON. Each view of a document is mapped and serialized once per snapshot,
+ * with the same mapper the HTTP codecs use; later reads wrap the cached bytes without copying them.
+ * The bytes live and die with their snapshot, which is no longer served once a newer catalog version is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogJson {
+    private final JsonMapper jsonMapper;
+
+    public <E extends CatalogEntity> DataBuffer encode(CatalogSnapshot snapshot, String view, E entity, Function<E, ?> toView) {
+        byte[] json = snapshot.encoded(view, entity.getId(), () -> jsonMapper.writeValueAsBytes(toView.apply(entity)));
+        return DefaultDataBufferFactory.sharedInstance.wrap(json);
+    }
+}
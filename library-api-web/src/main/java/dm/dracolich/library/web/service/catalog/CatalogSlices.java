@@ -0,0 +1,26 @@
+package dm.dracolich.library.web.service.catalog;
+
+import org.springframework.data.domain.*;
+
+import java.util.List;
+
+/**
+ * Pages over in-memory results with the same {@link Page}/{@link Slice} shapes the Mongo paths return.
+ */
+public final class CatalogSlices {
+
+    private CatalogSlices() {
+    }
+
+    public static <T> Slice<T> of(List<T> items, int page, int size, boolean withTotal) {
+        Pageable pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + size, items.size());
+        List<T> content = items.subList(from, to);
+
+        if (withTotal)
+            return new PageImpl<>(content, pageable, items.size());
+
+        return new SliceImpl<>(content, pageable, to < items.size());
+    }
+}
@@ -0,0 +1,110 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.library.web.entity.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the canonical (non-custom) catalog, plus the custom subclasses of canonical classes,
+ * which detailed class views list next to the canonical ones but which are otherwise served from Mongo.
+ * Replaced wholesale on refresh and on catch-up, never mutated, so readers can hold a reference without locking.
+ * {@code version} is the committed catalog version read before the load: every write at or below it is included.
+ * {@code stats} describe the last full load; snapshots caught up from it keep them.
+ * The entities themselves are plain mutable beans: callers map them to DTOs and must not modify them.
+ * The only state filled in after construction is {@code encoded}, the serialized JSON of the views served so far,
+ * which is dropped together with the snapshot it was built from.
+ */
+public record CatalogSnapshot(CatalogIndex<ClassEntity> classes,
+                              CatalogIndex<SubclassEntity> subclasses,
+                              CatalogIndex<RaceEntity> races,
+                              CatalogIndex<SubraceEntity> subraces,
+                              CatalogIndex<SpellEntity> spells,
+                              CatalogIndex<FeatureEntity> features,
+                              CatalogIndex<EquipmentEntity> equipment,
+                              Map<String, List<SubclassEntity>> subclassesByClass,
+                              Map<String, List<SubraceEntity>> subracesByRace,
+                              Map<String, List<SubclassEntity>> customSubclassesByClass,
+                              SpellFilterIndex spellFilter,
+                              CatalogVersion version,
+                              CatalogStats stats,
+                              Map<String, byte[]> encoded) {
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(CatalogIndex.empty(), CatalogIndex.empty(),
+            CatalogIndex.empty(), CatalogIndex.empty(), CatalogIndex.empty(), CatalogIndex.empty(),
+            CatalogIndex.empty(), Map.of(), Map.of(), Map.of(), new SpellFilterIndex(List.of()), CatalogVersion.INITIAL, null, Map.of());
+
+    static CatalogSnapshot of(CatalogIndex<ClassEntity> classes, CatalogIndex<SubclassEntity> subclasses,
+                              CatalogIndex<RaceEntity> races, CatalogIndex<SubraceEntity> subraces,
+                              CatalogIndex<SpellEntity> spells, CatalogIndex<FeatureEntity> features,
+                              CatalogIndex<EquipmentEntity> equipment, List<SubclassEntity> customSubclasses,
+                              CatalogVersion version, CatalogStats stats) {
+        // Seeded subclasses and subraces reference their parent by lowercase name
+        Map<String, List<SubclassEntity>> subclassesByClass = byClass(subclasses.all());
+        Map<String, List<SubclassEntity>> customSubclassesByClass = byClass(customSubclasses);
+        Map<String, List<SubraceEntity>> subracesByRace = subraces.all().stream()
+                .filter(subrace -> subrace.getRaceName() != null)
+                .collect(Collectors.groupingBy(subrace -> subrace.getRaceName().toLowerCase(Locale.ROOT),
+                        Collectors.toUnmodifiableList()));
+
+        return new CatalogSnapshot(classes, subclasses, races, subraces, spells, features, equipment,
+                Map.copyOf(subclassesByClass), Map.copyOf(subracesByRace), Map.copyOf(customSubclassesByClass), new SpellFilterIndex(spells.all()), version, stats, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * {@code false} until the first load completes; callers go to Mongo meanwhile.
+     */
+    public boolean isLoaded() {
+        return stats != null;
+    }
+
+    public List<SubclassEntity> subclassesOf(String className) {
+        return subclassesByClass.getOrDefault(className.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Custom subclasses naming {@code className} as their parent; {@link #subclassesOf} holds the canonical ones.
+     */
+    public List<SubclassEntity> customSubclassesOf(String className) {
+        return customSubclassesByClass.getOrDefault(className.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    public List<SubraceEntity> subracesOf(String raceName) {
+        return subracesByRace.getOrDefault(raceName.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Every custom subclass held, in no particular order.
+     */
+    public List<SubclassEntity> customSubclasses() {
+        return customSubclassesByClass.values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * The same documents, known to be current up to {@code version}; encoded views carry over since nothing changed.
+     */
+    CatalogSnapshot at(CatalogVersion version) {
+        return new CatalogSnapshot(classes, subclasses, races, subraces, spells, features, equipment, subclassesByClass,
+                subracesByRace, customSubclassesByClass, spellFilter, version, stats, encoded);
+    }
+
+    /**
+     * The JSON of one view of a snapshot document, encoded on first use.
+     */
+    public byte[] encoded(String view, String id, Supplier<byte[]> encoder) {
+        return encoded.computeIfAbsent(view + ":" + id, key -> encoder.get());
+    }
+
+    private static Map<String, List<SubclassEntity>> byClass(List<SubclassEntity> subclasses) {
+        return subclasses.stream()
+                .filter(subclass -> subclass.getClassName() != null)
+                .collect(Collectors.groupingBy(subclass -> subclass.getClassName().toLowerCase(Locale.ROOT),
+                        Collectors.toUnmodifiableList()));
+    }
+}
@@ -0,0 +1,265 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.library.web.entity.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CatalogSnapshot}, loads it from Mongo in full on demand and keeps it current by applying
+ * the documents written or deleted since its version.
+ * Canonical documents are those without {@code custom=true}; collections without the flag are canonical entirely.
+ * Custom subclasses are loaded too, only to complete the detailed views of their canonical classes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>(CatalogSnapshot.EMPTY);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile boolean catchUpRequested;
+
+    @Value("${library.catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * The snapshot to read from. Check {@link CatalogSnapshot#isLoaded()} before trusting a miss.
+     * A snapshot behind the recently committed catalog version keeps being served while {@link #catchUp()} brings it
+     * forward in the background.
+     */
+    public Mono<CatalogSnapshot> snapshot() {
+        return versions.recent().map(version -> {
+            CatalogSnapshot snapshot = current.get();
+            if (snapshot.isLoaded() && version.version() > snapshot.version().version())
+                catchUp();
+            return snapshot;
+        });
+    }
+
+    /**
+     * The snapshot held right now, whatever its version and without asking for a catch-up.
+     */
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    public Mono<CatalogStats> refresh() {
+        if (!enabled)
+            return Mono.empty();
+
+        Instant startedAt = Instant.now();
+        Map<String, CatalogStats.CollectionStats> collections = new TreeMap<>();
+
+        // Read before the load, so the snapshot holds every write at or below its version
+        return versions.current().flatMap(version -> Mono.zip(
+                        load(ClassEntity.class, collections),
+                        load(SubclassEntity.class, collections),
+                        load(RaceEntity.class, collections),
+                        load(SubraceEntity.class, collections),
+                        load(SpellEntity.class, collections),
+                        load(FeatureEntity.class, collections),
+                        load(EquipmentEntity.class, collections),
+                        loadCustom(SubclassEntity.class, collections))
+                .map(loaded -> {
+                    long approximateBytes = collections.values().stream()
+                            .mapToLong(CatalogStats.CollectionStats::approximateBytes)
+                            .sum();
+                    CatalogStats stats = new CatalogStats(startedAt, Instant.now().toEpochMilli() - startedAt.toEpochMilli(),
+                            approximateBytes, Collections.unmodifiableMap(new TreeMap<>(collections)));
+
+                    CatalogSnapshot snapshot = CatalogSnapshot.of(loaded.getT1(), loaded.getT2(), loaded.getT3(),
+                            loaded.getT4(), loaded.getT5(), loaded.getT6(), loaded.getT7(), loaded.getT8(), version, stats);
+
+                    // An overlapping refresh at a newer version wins, so a slow load never reinstates older data
+                    current.accumulateAndGet(snapshot, (previous, next) ->
+                            previous.isLoaded() && isNewer(previous, next) ? previous : next);
+                    return stats;
+                }))
+                .doOnNext(stats -> log.info("Catalog snapshot loaded in {} ms, ~{} KB across {}",
+                        stats.loadMillis(), stats.approximateBytes() / 1024, stats.collections()))
+                .doOnError(error -> log.error("Catalog snapshot refresh failed, keeping the previous snapshot", error));
+    }
+
+    /**
+     * Brings the snapshot up to the committed catalog version in the background, applying only the documents written
+     * or deleted since its version; writes to documents it does not hold just move its version. Calls made while one
+     * runs are folded into a single follow-up run. Does nothing until the first full load.
+     */
+    public void catchUp() {
+        if (!enabled)
+            return;
+        catchUpRequested = true;
+        if (!refreshing.compareAndSet(false, true))
+            return;
+        catchUpRequested = false;
+
+        CatalogSnapshot base = current.get();
+        Mono<CatalogSnapshot> caughtUp = base.isLoaded() ? applyChanges(base) : Mono.empty();
+        // Failures are logged and retried on the next request that sees a newer version
+        caughtUp.doFinally(signal -> {
+                    refreshing.set(false);
+                    if (catchUpRequested)
+                        catchUp();
+                })
+                .subscribe(snapshot -> { }, error -> log.warn("Catalog snapshot catch-up failed, keeping version {}: {}",
+                        base.version().version(), error.getMessage()));
+    }
+
+    // The committed version is read first, so every write at or below it is among the changes read after it
+    private Mono<CatalogSnapshot> applyChanges(CatalogSnapshot base) {
+        long since = base.version().version();
+        return versions.current()
+                .filter(version -> version.version() > since)
+                .flatMap(version -> deletedSince(since).flatMap(deleted -> Mono.zip(
+                                changes(ClassEntity.class, since, deleted),
+                                changes(SubclassEntity.class, since, deleted),
+                                changes(RaceEntity.class, since, deleted),
+                                changes(SubraceEntity.class, since, deleted),
+                                changes(SpellEntity.class, since, deleted),
+                                changes(FeatureEntity.class, since, deleted),
+                                changes(EquipmentEntity.class, since, deleted))
+                        .map(changes -> {
+                            List<SubclassEntity> heldCustomSubclasses = base.customSubclasses();
+                            List<ClassEntity> classes = changes.getT1().applyCanonical(base.classes().all());
+                            List<SubclassEntity> subclasses = changes.getT2().applyCanonical(base.subclasses().all());
+                            List<SubclassEntity> customSubclasses = changes.getT2().applyCustom(heldCustomSubclasses);
+                            List<RaceEntity> races = changes.getT3().applyCanonical(base.races().all());
+                            List<SubraceEntity> subraces = changes.getT4().applyCanonical(base.subraces().all());
+                            List<SpellEntity> spells = changes.getT5().applyCanonical(base.spells().all());
+                            List<FeatureEntity> features = changes.getT6().applyCanonical(base.features().all());
+                            List<EquipmentEntity> equipment = changes.getT7().applyCanonical(base.equipment().all());
+
+                            boolean unchanged = classes == base.classes().all() && subclasses == base.subclasses().all()
+                                    && customSubclasses == heldCustomSubclasses && races == base.races().all()
+                                    && subraces == base.subraces().all() && spells == base.spells().all()
+                                    && features == base.features().all() && equipment == base.equipment().all();
+                            if (unchanged)
+                                return base.at(version);
+
+                            return CatalogSnapshot.of(reindex(base.classes(), classes), reindex(base.subclasses(), subclasses),
+                                    reindex(base.races(), races), reindex(base.subraces(), subraces),
+                                    reindex(base.spells(), spells), reindex(base.features(), features),
+                                    reindex(base.equipment(), equipment), customSubclasses, version, base.stats());
+                        })))
+                .doOnNext(next -> {
+                    current.accumulateAndGet(next, (previous, candidate) -> isNewer(previous, candidate) ? previous : candidate);
+                    log.debug("Catalog snapshot caught up from version {} to {}", since, next.version().version());
+                });
+    }
+
+    private static <E extends CatalogEntity> CatalogIndex<E> reindex(CatalogIndex<E> index, List<E> entities) {
+        return entities == index.all() ? index : new CatalogIndex<>(entities);
+    }
+
+    private Mono<Map<String, Collection<String>>> deletedSince(long since) {
+        return mongoTemplate.find(Query.query(Criteria.where("version").gt(since)), TombstoneEntity.class)
+                .collectMultimap(TombstoneEntity::getCollection, TombstoneEntity::getDocumentId);
+    }
+
+    private <E extends CatalogEntity> Mono<Changes<E>> changes(Class<E> entityClass, long since,
+                                                               Map<String, Collection<String>> deleted) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return mongoTemplate.find(Query.query(Criteria.where("updatedVersion").gt(since)), Document.class, collection)
+                .collectList()
+                .map(documents -> {
+                    Set<String> touched = new HashSet<>(deleted.getOrDefault(collection, List.of()));
+                    List<E> canonical = new ArrayList<>();
+                    List<E> custom = new ArrayList<>();
+                    for (Document document : documents) {
+                        E entity = mongoTemplate.getConverter().read(entityClass, document);
+                        touched.add(entity.getId());
+                        (Boolean.TRUE.equals(document.get("custom")) ? custom : canonical).add(entity);
+                    }
+                    return new Changes<>(touched, canonical, custom);
+                });
+    }
+
+    private static boolean isNewer(CatalogSnapshot previous, CatalogSnapshot next) {
+        if (previous.version().version() != next.version().version())
+            return previous.version().version() > next.version().version();
+        return previous.stats().loadedAt().isAfter(next.stats().loadedAt());
+    }
+
+    private <E extends CatalogEntity> Mono<CatalogIndex<E>> load(Class<E> entityClass,
+                                                                 Map<String, CatalogStats.CollectionStats> collections) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return load(entityClass, Criteria.where("custom").ne(true), collection, collections)
+                .map(CatalogIndex::new);
+    }
+
+    // Custom documents the detailed views of canonical parents list, counted apart from the canonical ones
+    private <E extends CatalogEntity> Mono<List<E>> loadCustom(Class<E> entityClass,
+                                                               Map<String, CatalogStats.CollectionStats> collections) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return load(entityClass, Criteria.where("custom").is(true), collection + ".custom", collections);
+    }
+
+    private <E extends CatalogEntity> Mono<List<E>> load(Class<E> entityClass, Criteria criteria, String statsKey,
+                                                         Map<String, CatalogStats.CollectionStats> collections) {
+        return mongoTemplate.find(Query.query(criteria), Document.class, mongoTemplate.getCollectionName(entityClass))
+                .collectList()
+                .map(documents -> {
+                    List<E> entities = documents.stream()
+                            .map(document -> mongoTemplate.getConverter().read(entityClass, document))
+                            .toList();
+                    long bytes = documents.stream()
+                            .mapToLong(document -> new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining())
+                            .sum();
+
+                    synchronized (collections) {
+                        collections.put(statsKey, new CatalogStats.CollectionStats(entities.size(), bytes));
+                    }
+                    return entities;
+                });
+    }
+
+    /**
+     * The documents of one collection written or deleted since a snapshot's version; {@code touched} holds all their
+     * ids, custom or not, so documents that stopped being held are dropped too.
+     */
+    private record Changes<E extends CatalogEntity>(Set<String> touched, List<E> canonical, List<E> custom) {
+        List<E> applyCanonical(List<E> held) {
+            return apply(held, canonical);
+        }
+
+        List<E> applyCustom(List<E> held) {
+            return apply(held, custom);
+        }
+
+        // Replaces in place and appends new documents, keeping the read order; returns held itself when nothing moved
+        private List<E> apply(List<E> held, List<E> written) {
+            if (written.isEmpty() && held.stream().noneMatch(entity -> touched.contains(entity.getId())))
+                return held;
+
+            Map<String, E> pending = new LinkedHashMap<>();
+            written.forEach(entity -> pending.put(entity.getId(), entity));
+            List<E> merged = new ArrayList<>(held.size() + written.size());
+            for (E entity : held) {
+                if (!touched.contains(entity.getId()))
+                    merged.add(entity);
+                else if (pending.containsKey(entity.getId()))
+                    merged.add(pending.remove(entity.getId()));
+            }
+            merged.addAll(pending.values());
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dm.dracolich.library.web.service.catalog;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Load metadata for a catalog snapshot.
+ * Byte counts are the BSON size of the loaded documents: a lower bound on the heap they retain,
+ * good for spotting growth rather than an exact measurement.
+ */
+public record CatalogStats(Instant loadedAt, long loadMillis, long approximateBytes,
+                           Map<String, CollectionStats> collections) {
+
+    public record CollectionStats(int documents, long approximateBytes) {
+    }
+}
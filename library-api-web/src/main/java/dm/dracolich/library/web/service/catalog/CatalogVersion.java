@@ -0,0 +1,7 @@
+package dm.dracolich.library.web.service.catalog;
+
+import java.time.Instant;
+
+public record CatalogVersion(long version, Instant updatedAt) {
+    public static final CatalogVersion INITIAL = new CatalogVersion(0, Instant.EPOCH);
+}
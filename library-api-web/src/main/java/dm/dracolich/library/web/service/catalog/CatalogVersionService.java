@@ -0,0 +1,113 @@
+package dm.dracolich.library.web.service.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Monotonic catalog version, kept as a single counter document so every instance draws from the same sequence.
+ * Each write to a library document reserves the next version before it is written and releases it once committed;
+ * clients sync from the last version they saw.
+ * <p>
+ * Writes can commit out of order, so {@link #current()} is not the counter itself but the highest version below
+ * every reservation still open: nothing at or below it can show up later. Reservations are kept on the counter
+ * document, taken in the same update as the increment, and ignored after {@link #RESERVATION_TIMEOUT} so a writer
+ * that died before releasing holds syncs back only briefly.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService {
+    private static final String COLLECTION = "catalog_version";
+    private static final String COUNTER_ID = "catalog";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String PENDING = "pending";
+    private static final Duration RECENT_TTL = Duration.ofSeconds(1);
+    private static final Duration RESERVATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final Mono<CatalogVersion> recent = Mono.defer(this::current).cache(RECENT_TTL);
+
+    /**
+     * Reserves the next version; pair with {@link #release(long)} once the write using it has committed.
+     */
+    public Mono<Long> next() {
+        return mongoTemplate.findAndModify(counter(), reserve(),
+                        FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COLLECTION)
+                .map(document -> document.get(VERSION, Number.class).longValue());
+    }
+
+    public Mono<Void> release(long version) {
+        return mongoTemplate.updateFirst(counter(), new Update().pull(PENDING, new Document("v", version)), COLLECTION)
+                .then();
+    }
+
+    /**
+     * Runs {@code write} under a reserved version, released however the write ends.
+     */
+    public <T> Mono<T> withNext(Function<Long, Mono<T>> write) {
+        return Mono.usingWhen(next(), write, this::release);
+    }
+
+    /**
+     * The committed high-water mark: every write stamped at or below it is visible.
+     */
+    public Mono<CatalogVersion> current() {
+        return mongoTemplate.findOne(counter(), Document.class, COLLECTION)
+                .map(CatalogVersionService::toVersion)
+                .defaultIfEmpty(CatalogVersion.INITIAL);
+    }
+
+    /**
+     * The current version, read at most once per {@link #RECENT_TTL}; for per-request checks that tolerate that lag.
+     */
+    public Mono<CatalogVersion> recent() {
+        return recent;
+    }
+
+    // Counters written before the timestamp was tracked report the epoch until their next bump
+    private static CatalogVersion toVersion(Document document) {
+        long version = document.get(VERSION, Number.class).longValue();
+        Date cutoff = Date.from(Instant.now().minus(RESERVATION_TIMEOUT));
+        for (Document reservation : document.getList(PENDING, Document.class, List.of())) {
+            Date reservedAt = reservation.getDate("at");
+            if (reservedAt != null && reservedAt.after(cutoff))
+                version = Math.min(version, reservation.get("v", Number.class).longValue() - 1);
+        }
+
+        Date updatedAt = document.getDate(UPDATED_AT);
+        return new CatalogVersion(version, updatedAt == null ? Instant.EPOCH : updatedAt.toInstant());
+    }
+
+    // Increments the counter and records the new version as pending in one update, dropping expired reservations
+    private static AggregationUpdate reserve() {
+        AggregationOperation increment = context -> new Document("$set", new Document()
+                .append(VERSION, new Document("$add", List.of(new Document("$ifNull", List.of("$" + VERSION, 0L)), 1L)))
+                .append(UPDATED_AT, "$$NOW"));
+        AggregationOperation recordPending = context -> new Document("$set", new Document(PENDING, new Document("$concatArrays", List.of(
+                new Document("$filter", new Document("input", new Document("$ifNull", List.of("$" + PENDING, List.of())))
+                        .append("cond", new Document("$gt", List.of("$$this.at",
+                                new Document("$subtract", List.of("$$NOW", RESERVATION_TIMEOUT.toMillis())))))),
+                List.of(new Document("v", "$" + VERSION).append("at", "$$NOW"))))));
+        return AggregationUpdate.from(List.of(increment, recordPending));
+    }
+
+    private static Query counter() {
+        return Query.query(Criteria.where("_id").is(COUNTER_ID));
+    }
+}
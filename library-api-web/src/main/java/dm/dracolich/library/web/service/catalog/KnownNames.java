@@ -0,0 +1,192 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.forge.error.ApiError;
+import dm.dracolich.forge.error.ErrorSeverity;
+import dm.dracolich.forge.exception.ResponseException;
+import dm.dracolich.library.web.entity.*;
+import dm.dracolich.library.web.response.NameFilterResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterSaveCallback;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static dm.dracolich.library.dto.error.ErrorCodes.DMD015;
+
+/**
+ * Exact sets of the normalized names in the collections served by name, so lookups for names that do not exist
+ * are answered with 404 without a query. The collections are small enough that a hash set costs less than a
+ * Bloom filter would save, and it never rejects a committed name.
+ * <p>
+ * A set is built at the committed catalog version read before the load, so every write at or below that version
+ * is in it. A name is only rejected while the recently committed version ({@link CatalogVersionService#recent()},
+ * read at most once a second for all lookups) is not newer than the set; otherwise the lookup goes to the database
+ * and the sets are rebuilt. A name committed on another instance can so be rejected for up to that second; saves on
+ * this instance add their name right away. Renamed and deleted documents leave their old name behind, which only
+ * costs a query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownNames implements ReactiveAfterSaveCallback<CatalogEntity> {
+    private static final List<Class<? extends CatalogEntity>> GUARDED = List.of(
+            ClassEntity.class, SubclassEntity.class, RaceEntity.class, SubraceEntity.class, SpellEntity.class,
+            EquipmentEntity.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CatalogVersionService versions;
+
+    private volatile Names names; // null until the first build
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the name sets, run by the data initializer once the seed data is in place. Failures are logged, lookups
+     * then go to the database until the next rebuild.
+     */
+    public Mono<Void> build() {
+        return Mono.defer(() -> rebuilding.compareAndSet(false, true) ? load() : Mono.empty());
+    }
+
+    /**
+     * Runs {@code lookup} unless {@code name} is known not to exist in the collection of {@code type}.
+     * Either way a miss becomes a 404.
+     */
+    public <T> Mono<T> guard(Class<? extends CatalogEntity> type, String name, Supplier<Mono<T>> lookup) {
+        String collection = mongoTemplate.getCollectionName(type);
+        Counters stats = counters.computeIfAbsent(collection, key -> new Counters());
+        Names current = names;
+
+        Mono<Boolean> known;
+        if (current == null)
+            known = Mono.just(false);
+        else if (current.contains(collection, NameKeys.normalize(name)))
+            known = Mono.just(true);
+        else
+            known = versions.recent().flatMap(version -> {
+                if (version.version() <= current.version()) {
+                    stats.rejected.increment();
+                    return Mono.error(notFound(collection, name));
+                }
+                rebuild();
+                return Mono.just(false);
+            });
+
+        return known.flatMap(inSet -> lookup.get()
+                .switchIfEmpty(Mono.defer(() -> {
+                    if (inSet)
+                        stats.falsePositives.increment();
+                    return Mono.error(notFound(collection, name));
+                }))
+                .doOnSuccess(found -> {
+                    if (inSet)
+                        stats.passed.increment();
+                }));
+    }
+
+    public List<NameFilterResponse> stats() {
+        Names current = names;
+        return GUARDED.stream()
+                .map(mongoTemplate::getCollectionName)
+                .map(collection -> {
+                    Counters stats = counters.getOrDefault(collection, new Counters());
+                    long rejected = stats.rejected.sum();
+                    long falsePositives = stats.falsePositives.sum();
+                    return NameFilterResponse.builder()
+                            .collection(collection)
+                            .names(current == null ? 0 : current.size(collection))
+                            .builtAtVersion(current == null ? null : current.version())
+                            .rejected(rejected)
+                            .passed(stats.passed.sum())
+                            .falsePositives(falsePositives)
+                            .falsePositiveRate(rejected + falsePositives == 0 ? 0 : (double) falsePositives / (rejected + falsePositives))
+                            .build();
+                })
+                .toList();
+    }
+
+    @Override
+    public Publisher<CatalogEntity> onAfterSave(CatalogEntity entity, Document document, String collection) {
+        Names current = names;
+        if (current != null)
+            current.add(collection, NameKeys.normalize(entity.getName()));
+        return Mono.just(entity);
+    }
+
+    private void rebuild() {
+        build().subscribe();
+    }
+
+    // The committed version is read first: writes at or below it are visible to the load, and writes racing with
+    // it carry a newer version, which makes guard fall through and rebuild rather than reject them
+    private Mono<Void> load() {
+        return versions.current()
+                .flatMap(version -> Flux.fromIterable(GUARDED)
+                        .map(mongoTemplate::getCollectionName)
+                        .flatMap(collection -> loadNames(collection)
+                                .map(loaded -> Map.entry(collection, loaded)))
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                        .map(loaded -> new Names(version.version(), loaded)))
+                .doFinally(signal -> rebuilding.set(false))
+                .doOnNext(built -> {
+                    names = built;
+                    log.debug("Known names rebuilt at catalog version {}", built.version());
+                })
+                .doOnError(error -> log.warn("Failed to build known names, lookups go to the database: {}", error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    // Normalized from name rather than read from nameKey, which may still be backfilling
+    private Mono<Set<String>> loadNames(String collection) {
+        Query query = new Query();
+        query.fields().include("name");
+
+        return mongoTemplate.find(query, Document.class, collection)
+                .map(document -> NameKeys.normalize(document.getString("name")))
+                .collect(ConcurrentHashMap::<String>newKeySet, Set::add);
+    }
+
+    private static ResponseException notFound(String collection, String name) {
+        return new ResponseException(DMD015.format(collection, name), List.of(new ApiError(DMD015, ErrorSeverity.ERROR,
+                "KnownNames::guard")), HttpStatus.NOT_FOUND);
+    }
+
+    private record Names(long version, Map<String, Set<String>> byCollection) {
+        boolean contains(String collection, String nameKey) {
+            Set<String> known = byCollection.get(collection);
+            return known != null && known.contains(nameKey);
+        }
+
+        void add(String collection, String nameKey) {
+            Set<String> known = byCollection.get(collection);
+            if (known != null && nameKey != null)
+                known.add(nameKey);
+        }
+
+        int size(String collection) {
+            Set<String> known = byCollection.get(collection);
+            return known == null ? 0 : known.size();
+        }
+    }
+
+    private static final class Counters {
+        final LongAdder rejected = new LongAdder();
+        final LongAdder passed = new LongAdder();
+        final LongAdder falsePositives = new LongAdder();
+    }
+}
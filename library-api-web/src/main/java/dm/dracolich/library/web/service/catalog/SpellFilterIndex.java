@@ -0,0 +1,126 @@
+package dm.dracolich.library.web.service.catalog;
+
+import dm.dracolich.library.dto.enums.AbilityTypeEnum;
+import dm.dracolich.library.dto.enums.DamageTypeEnum;
+import dm.dracolich.library.dto.enums.SchoolTypeEnum;
+import dm.dracolich.library.dto.enums.SpellTypeEnum;
+import dm.dracolich.library.web.entity.SpellEntity;
+import dm.dracolich.library.web.response.SpellFacetsResponse;
+import org.springframework.data.domain.*;
+
+import java.util.*;
+
+/**
+ * Bitmap index over the snapshot's spells, one {@link BitSet} per filter value.
+ * Bit {@code i} stands for the spell at position {@code i} of the snapshot, so filtering is a handful of ANDs
+ * and a page is a walk over the set bits. Bitmaps are built once and never handed out; callers get copies.
+ */
+public final class SpellFilterIndex {
+    private final List<SpellEntity> spells;
+    private final BitSet all;
+    private final Map<Integer, BitSet> byLevel = new HashMap<>();
+    private final Map<SpellTypeEnum, BitSet> byType = new EnumMap<>(SpellTypeEnum.class);
+    private final Map<SchoolTypeEnum, BitSet> bySchool = new EnumMap<>(SchoolTypeEnum.class);
+    private final Map<DamageTypeEnum, BitSet> byDamageType = new EnumMap<>(DamageTypeEnum.class);
+    private final Map<AbilityTypeEnum, BitSet> bySave = new EnumMap<>(AbilityTypeEnum.class);
+
+    SpellFilterIndex(List<SpellEntity> spells) {
+        this.spells = spells;
+        this.all = new BitSet(spells.size());
+        this.all.set(0, spells.size());
+
+        for (int i = 0; i < spells.size(); i++) {
+            SpellEntity spell = spells.get(i);
+            int position = i;
+
+            if (spell.getMinSlotLevel() != null)
+                byLevel.computeIfAbsent(spell.getMinSlotLevel(), key -> new BitSet()).set(position);
+            if (spell.getSpellType() != null)
+                byType.computeIfAbsent(spell.getSpellType(), key -> new BitSet()).set(position);
+            if (spell.getSchoolType() != null)
+                bySchool.computeIfAbsent(spell.getSchoolType(), key -> new BitSet()).set(position);
+            if (spell.getSave() != null)
+                bySave.computeIfAbsent(spell.getSave(), key -> new BitSet()).set(position);
+            if (spell.getDamageTypes() != null)
+                spell.getDamageTypes().forEach(damageType -> byDamageType.computeIfAbsent(damageType, key -> new BitSet()).set(position));
+        }
+    }
+
+    /**
+     * Same semantics as the Mongo filter: every given axis must match and damage types are all-of.
+     */
+    public Slice<SpellEntity> filter(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                     Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save,
+                                     int page, int size, boolean withTotal) {
+        BitSet matches = match(level, type, school, damageTypes, save);
+        Pageable pageable = PageRequest.of(page, size);
+
+        List<SpellEntity> content = new ArrayList<>(size);
+        int bit = matches.nextSetBit(0);
+        for (long skipped = 0; bit >= 0 && skipped < pageable.getOffset(); skipped++)
+            bit = matches.nextSetBit(bit + 1);
+        for (; bit >= 0 && content.size() < size; bit = matches.nextSetBit(bit + 1))
+            content.add(spells.get(bit));
+
+        if (withTotal)
+            return new PageImpl<>(content, pageable, matches.cardinality());
+
+        return new SliceImpl<>(content, pageable, bit >= 0);
+    }
+
+    public List<SpellEntity> matching(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                      Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        BitSet matches = match(level, type, school, damageTypes, save);
+        List<SpellEntity> content = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(bit -> content.add(spells.get(bit)));
+        return content;
+    }
+
+    public SpellFacetsResponse facets(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                      Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        return SpellFacetsResponse.builder()
+                .levels(count(byLevel, match(null, type, school, damageTypes, save), new TreeMap<>()))
+                .types(count(byType, match(level, null, school, damageTypes, save), new EnumMap<>(SpellTypeEnum.class)))
+                .schools(count(bySchool, match(level, type, null, damageTypes, save), new EnumMap<>(SchoolTypeEnum.class)))
+                .damageTypes(count(byDamageType, match(level, type, school, damageTypes, save), new EnumMap<>(DamageTypeEnum.class)))
+                .saves(count(bySave, match(level, type, school, damageTypes, null), new EnumMap<>(AbilityTypeEnum.class)))
+                .build();
+    }
+
+    private static <K> Map<K, Long> count(Map<K, BitSet> bitmaps, BitSet selection, Map<K, Long> counts) {
+        bitmaps.forEach((value, bitmap) -> {
+            BitSet intersection = (BitSet) bitmap.clone();
+            intersection.and(selection);
+
+            if (!intersection.isEmpty())
+                counts.put(value, (long) intersection.cardinality());
+        });
+
+        return counts;
+    }
+
+    private BitSet match(Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                         Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        BitSet matches = (BitSet) all.clone();
+
+        if (level != null)
+            and(matches, byLevel.get(level));
+        if (type != null)
+            and(matches, byType.get(type));
+        if (school != null)
+            and(matches, bySchool.get(school));
+        if (damageTypes != null)
+            damageTypes.forEach(damageType -> and(matches, byDamageType.get(damageType)));
+        if (save != null)
+            and(matches, bySave.get(save));
+
+        return matches;
+    }
+
+    private static void and(BitSet matches, BitSet values) {
+        if (values == null)
+            matches.clear();
+        else
+            matches.and(values);
+    }
+}
@@ -0,0 +1,56 @@
+package dm.dracolich.library.web.service.diagnostics;
+
+import dm.dracolich.library.dto.enums.AbilityTypeEnum;
+import dm.dracolich.library.dto.enums.DamageTypeEnum;
+import dm.dracolich.library.dto.enums.SchoolTypeEnum;
+import dm.dracolich.library.dto.enums.SpellTypeEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The set of spell fields a filter request constrains, in document field names and a fixed order.
+ * Values are dropped: two requests with the same shape are served by the same indexes.
+ */
+public record SpellFilterShape(List<String> fields) {
+    private static final String NONE = "(none)";
+
+    /**
+     * Shapes the spell browser is known to send, checked against the index set at startup.
+     */
+    static final List<SpellFilterShape> EXPECTED = List.of(
+            new SpellFilterShape(List.of("minSlotLevel")),
+            new SpellFilterShape(List.of("spellType")),
+            new SpellFilterShape(List.of("schoolType")),
+            new SpellFilterShape(List.of("damageTypes")),
+            new SpellFilterShape(List.of("save")),
+            new SpellFilterShape(List.of("minSlotLevel", "schoolType")),
+            new SpellFilterShape(List.of("spellType", "schoolType")),
+            new SpellFilterShape(List.of("damageTypes", "save")),
+            new SpellFilterShape(List.of("minSlotLevel", "spellType", "schoolType")));
+
+    public static SpellFilterShape of(String name, Integer level, SpellTypeEnum type, SchoolTypeEnum school,
+                                      Set<DamageTypeEnum> damageTypes, AbilityTypeEnum save) {
+        List<String> fields = new ArrayList<>();
+
+        if (name != null && !name.isBlank())
+            fields.add("nameKey");
+        if (level != null)
+            fields.add("minSlotLevel");
+        if (type != null)
+            fields.add("spellType");
+        if (school != null)
+            fields.add("schoolType");
+        if (damageTypes != null && !damageTypes.isEmpty())
+            fields.add("damageTypes");
+        if (save != null)
+            fields.add("save");
+
+        return new SpellFilterShape(List.copyOf(fields));
+    }
+
+    public String key() {
+        return fields.isEmpty() ? NONE : String.join("+", fields);
+    }
+}
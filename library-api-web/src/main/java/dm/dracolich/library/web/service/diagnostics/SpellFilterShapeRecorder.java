@@ -0,0 +1,26 @@
+package dm.dracolich.library.web.service.diagnostics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts spell filter queries sent to Mongo per {@link SpellFilterShape} since startup, so the index set can follow
+ * real traffic. Filters answered from the catalog snapshot touch no index and are not counted.
+ */
+@Component
+public class SpellFilterShapeRecorder {
+    private final Map<SpellFilterShape, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public void record(SpellFilterShape shape) {
+        counts.computeIfAbsent(shape, key -> new LongAdder()).increment();
+    }
+
+    public Map<SpellFilterShape, Long> snapshot() {
+        Map<SpellFilterShape, Long> copy = new ConcurrentHashMap<>();
+        counts.forEach((shape, count) -> copy.put(shape, count.sum()));
+        return copy;
+    }
+}
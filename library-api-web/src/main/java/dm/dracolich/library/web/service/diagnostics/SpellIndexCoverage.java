@@ -0,0 +1,62 @@
+package dm.dracolich.library.web.service.diagnostics;
+
+import dm.dracolich.library.web.config.StartupOrchestrator;
+import dm.dracolich.library.web.entity.SpellEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Checks spell filter shapes against the indexes that actually exist on the spells collection.
+ * A shape is covered when some index leads with exactly its fields, in any order, so every
+ * equality in the filter narrows the index scan and nothing is left for a document fetch to reject.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpellIndexCoverage {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final StartupOrchestrator startup;
+
+    // Run once the index builds have finished, so indexes still being created are not reported as missing
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkExpectedShapes() {
+        startup.finished("indexes")
+                .then(coverage())
+                .subscribe(
+                        covered -> SpellFilterShape.EXPECTED.stream()
+                                .filter(Predicate.not(covered))
+                                .forEach(shape -> log.warn("Spell filter shape {} is not covered by any index", shape.key())),
+                        error -> log.error("Spell index coverage check failed", error)
+                );
+    }
+
+    public Mono<Predicate<SpellFilterShape>> coverage() {
+        return mongoTemplate.indexOps(SpellEntity.class).getIndexInfo()
+                .collectList()
+                .map(indexes -> shape -> isCovered(shape, indexes));
+    }
+
+    private static boolean isCovered(SpellFilterShape shape, List<IndexInfo> indexes) {
+        if (shape.fields().isEmpty())
+            return true;
+
+        return indexes.stream()
+                .map(IndexInfo::getIndexFields)
+                .filter(fields -> fields.size() >= shape.fields().size())
+                .anyMatch(fields -> new HashSet<>(fields.subList(0, shape.fields().size()).stream()
+                        .map(IndexField::getKey)
+                        .toList())
+                        .equals(new HashSet<>(shape.fields())));
+    }
+}
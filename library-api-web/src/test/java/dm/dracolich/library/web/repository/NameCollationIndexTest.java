@@ -0,0 +1,192 @@
+package dm.dracolich.library.web.repository;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import dm.dracolich.library.web.config.MongoIndexConfig;
+import dm.dracolich.library.web.config.StartupOrchestrator;
+import dm.dracolich.library.web.entity.*;
+import dm.dracolich.library.web.repository.custom.FacetPaginator;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.data.mongodb.test.autoconfigure.DataMongoTest;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Collated lookups only use an index built with the same collation, so each case-insensitive repository query is
+ * run, then the exact command it sent to the server is explained against the indexes {@link MongoIndexConfig} builds.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({MongoIndexConfig.class, StartupOrchestrator.class, ApplicationAvailabilityBean.class, FacetPaginator.class})
+class NameCollationIndexTest {
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final RecordingListener commands = new RecordingListener();
+
+    @SpringBootConfiguration
+    @EnableReactiveMongoRepositories(basePackageClasses = ClassRepository.class)
+    static class Config {
+        @Bean
+        MongoClientSettingsBuilderCustomizer recordCommands() {
+            return settings -> settings.addCommandListener(commands);
+        }
+    }
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ClassRepository classes;
+
+    @Autowired
+    private SubclassRepository subclasses;
+
+    @Autowired
+    private RaceRepository races;
+
+    @Autowired
+    private SubraceRepository subraces;
+
+    @Autowired
+    private StartupOrchestrator startup;
+
+    @BeforeEach
+    void setUp() {
+        startup.finished("indexes").block(Duration.ofSeconds(30));
+        Flux.just(ClassEntity.class, SubclassEntity.class, RaceEntity.class, SubraceEntity.class)
+                .concatMap(type -> mongoTemplate.remove(new Query(), type))
+                .then(insert(ClassEntity.class, new Document("name", "Fighter")))
+                .then(insert(SubclassEntity.class, new Document("name", "Champion").append("className", "fighter")))
+                .then(insert(RaceEntity.class, new Document("name", "Half-Elf")))
+                .then(insert(SubraceEntity.class, new Document("name", "High Elf").append("raceName", "elf")))
+                .block();
+        commands.clear();
+    }
+
+    @Test
+    void classLookupScansNameIndex() {
+        StepVerifier.create(classes.findByNameCaseInsensitive("fIGHTER"))
+                .assertNext(found -> assertThat(found.getName()).isEqualTo("Fighter"))
+                .verifyComplete();
+
+        assertThat(indexScans(explainLast())).contains(NameCollation.INDEX_NAME);
+    }
+
+    @Test
+    void subclassLookupScansNameIndex() {
+        StepVerifier.create(subclasses.findByNameCaseInsensitive("CHAMPION"))
+                .assertNext(found -> assertThat(found.getName()).isEqualTo("Champion"))
+                .verifyComplete();
+
+        assertThat(indexScans(explainLast())).contains(NameCollation.INDEX_NAME);
+    }
+
+    @Test
+    void raceLookupScansNameIndex() {
+        StepVerifier.create(races.findByNameCaseInsensitive("half-ELF"))
+                .assertNext(found -> assertThat(found.getName()).isEqualTo("Half-Elf"))
+                .verifyComplete();
+
+        assertThat(indexScans(explainLast())).contains(NameCollation.INDEX_NAME);
+    }
+
+    @Test
+    void subclassBatchScansClassNameIndex() {
+        StepVerifier.create(subclasses.findAllByClassNameInCaseInsensitive(List.of("FIGHTER", "wizard")))
+                .assertNext(found -> assertThat(found.getName()).isEqualTo("Champion"))
+                .verifyComplete();
+
+        assertThat(indexScans(explainLast())).contains(NameCollation.CLASS_NAME_INDEX_NAME);
+    }
+
+    @Test
+    void subraceBatchScansRaceNameIndex() {
+        StepVerifier.create(subraces.findAllByRaceNameInCaseInsensitive(List.of("Elf", "dwarf")))
+                .assertNext(found -> assertThat(found.getName()).isEqualTo("High Elf"))
+                .verifyComplete();
+
+        assertThat(indexScans(explainLast())).contains(NameCollation.RACE_NAME_INDEX_NAME);
+    }
+
+    private Mono<Void> insert(Class<?> type, Document document) {
+        return mongoTemplate.insert(document, mongoTemplate.getCollectionName(type)).then();
+    }
+
+    // Explains the last find sent, filter, projection and collation exactly as the repository built them
+    private Document explainLast() {
+        BsonDocument find = commands.lastFind();
+        assertThat(find).as("a find command was sent").isNotNull();
+
+        BsonDocument explain = new BsonDocument("explain", find).append("verbosity", new BsonString("queryPlanner"));
+        Document result = mongoTemplate.getMongoDatabase()
+                .flatMap(database -> Mono.from(database.runCommand(explain)))
+                .block();
+        return result.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    // Plans nest their stages differently across server versions, so every IXSCAN below the root is collected
+    private static List<String> indexScans(Object plan) {
+        List<String> indexNames = new ArrayList<>();
+        if (plan instanceof Document stage) {
+            if ("IXSCAN".equals(stage.getString("stage")))
+                indexNames.add(stage.getString("indexName"));
+            stage.values().forEach(value -> indexNames.addAll(indexScans(value)));
+        } else if (plan instanceof List<?> stages) {
+            stages.forEach(value -> indexNames.addAll(indexScans(value)));
+        }
+        return indexNames;
+    }
+
+    /**
+     * Keeps the {@code find} commands the driver sends, without the session and routing fields explain rejects.
+     */
+    private static final class RecordingListener implements CommandListener {
+        private final ConcurrentLinkedDeque<BsonDocument> finds = new ConcurrentLinkedDeque<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (!"find".equals(event.getCommandName()))
+                return;
+
+            // The driver reuses the buffer behind the event, so the command is copied before it is kept
+            BsonDocument command = event.getCommand().clone();
+            command.keySet().removeIf(key -> key.startsWith("$") || key.equals("lsid") || key.equals("txnNumber"));
+            finds.add(command);
+        }
+
+        BsonDocument lastFind() {
+            return finds.peekLast();
+        }
+
+        void clear() {
+            finds.clear();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dm.dracolich.library.web.service.catalog;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import dm.dracolich.library.dto.enums.AbilityTypeEnum;
+import dm.dracolich.library.dto.enums.DamageTypeEnum;
+import dm.dracolich.library.dto.enums.SchoolTypeEnum;
+import dm.dracolich.library.dto.enums.SpellTypeEnum;
+import dm.dracolich.library.web.config.MongoIndexConfig;
+import dm.dracolich.library.web.config.SeedResources;
+import dm.dracolich.library.web.config.StartupOrchestrator;
+import dm.dracolich.library.web.entity.SpellEntity;
+import dm.dracolich.library.web.repository.custom.FacetPaginator;
+import dm.dracolich.library.web.repository.custom.SpellCustomRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.mongodb.MongoDBContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpellFilterIndex} against the Mongo criteria path {@code fetchSpellsByFilters} falls back to, over the
+ * seeded spells and the indexes {@link MongoIndexConfig} builds. Both produce the first page with its total, as
+ * {@code GET /spells/filter} does. Needs Docker; run with
+ * {@code mvn -pl library-api-web -am -Pbenchmark process-test-classes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpellFilterBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    // Filter combinations the spell browser sends
+    public enum Shape {
+        LEVEL(1, null, null, null, null),
+        LEVEL_SCHOOL(3, null, SchoolTypeEnum.EVOCATION, null, null),
+        TYPE_SCHOOL(null, SpellTypeEnum.ATTACK, SchoolTypeEnum.EVOCATION, null, null),
+        DAMAGE_TYPES_SAVE(null, null, null, Set.of(DamageTypeEnum.FIRE), AbilityTypeEnum.DEX);
+
+        final Integer level;
+        final SpellTypeEnum type;
+        final SchoolTypeEnum school;
+        final Set<DamageTypeEnum> damageTypes;
+        final AbilityTypeEnum save;
+
+        Shape(Integer level, SpellTypeEnum type, SchoolTypeEnum school, Set<DamageTypeEnum> damageTypes,
+              AbilityTypeEnum save) {
+            this.level = level;
+            this.type = type;
+            this.school = school;
+            this.damageTypes = damageTypes;
+            this.save = save;
+        }
+    }
+
+    @Param
+    public Shape shape;
+
+    private MongoDBContainer mongo;
+    private MongoClient client;
+    private SpellCustomRepositoryImpl repository;
+    private SpellFilterIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongo = new MongoDBContainer("mongo:7.0");
+        mongo.start();
+        client = MongoClients.create(mongo.getConnectionString());
+        ReactiveMongoTemplate mongoTemplate = new ReactiveMongoTemplate(client, "library");
+
+        StartupOrchestrator startup = new StartupOrchestrator(event -> { }, new ApplicationAvailabilityBean());
+        new MongoIndexConfig(mongoTemplate, startup).initIndexes();
+        startup.finished("indexes").block(Duration.ofMinutes(1));
+
+        SeedResources seeds = new SeedResources(new DefaultResourceLoader(), JsonMapper.builder().build());
+        ReflectionTestUtils.setField(seeds, "location", "classpath:seed/v1/");
+        List<SpellEntity> spells = seeds.read("spells", SpellEntity.class)
+                .collectList()
+                .flatMapMany(mongoTemplate::insertAll)
+                .collectList()
+                .block();
+
+        index = new SpellFilterIndex(spells);
+        repository = new SpellCustomRepositoryImpl(mongoTemplate, new FacetPaginator(mongoTemplate));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        mongo.stop();
+    }
+
+    @Benchmark
+    public Slice<SpellEntity> bitmap() {
+        return index.filter(shape.level, shape.type, shape.school, shape.damageTypes, shape.save, 0, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public Slice<SpellEntity> mongoCriteria() {
+        return repository.findByFilters(null, shape.level, shape.type, shape.school, shape.damageTypes, shape.save,
+                0, PAGE_SIZE, true, null).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SpellFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}